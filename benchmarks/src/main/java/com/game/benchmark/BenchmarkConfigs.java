@@ -0,0 +1,108 @@
+package com.game.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkConfigs {
+    private static final int MAX_LINE_LENGTH = 5;
+    private static final String[] STANDARD_SYMBOLS = {"A", "B", "C", "D", "E", "F"};
+    private static final double[] REWARD_MULTIPLIERS = {5, 3, 2.5, 2, 1.2, 1};
+
+    private BenchmarkConfigs() {
+    }
+
+    static Path write(String size) throws IOException {
+        String[] dimensions = size.split("x");
+        Map<String, Object> config = create(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        Path file = Files.createTempFile("scratch-game-" + size + "-", ".json");
+        file.toFile().deleteOnExit();
+        new ObjectMapper().writeValue(file.toFile(), config);
+        return file;
+    }
+
+    private static Map<String, Object> create(int rows, int columns) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("columns", columns);
+        config.put("rows", rows);
+        config.put("symbols", symbols());
+        config.put("probabilities", probabilities(rows, columns));
+        config.put("win_combinations", winCombinations(rows, columns));
+        return config;
+    }
+
+    private static Map<String, Object> symbols() {
+        Map<String, Object> symbols = new LinkedHashMap<>();
+        for (int i = 0; i < STANDARD_SYMBOLS.length; i++) {
+            symbols.put(STANDARD_SYMBOLS[i], Map.of("reward_multiplier", REWARD_MULTIPLIERS[i], "type", "standard"));
+        }
+        symbols.put("10x", Map.of("reward_multiplier", 10, "type", "bonus", "impact", "multiply_reward"));
+        symbols.put("5x", Map.of("reward_multiplier", 5, "type", "bonus", "impact", "multiply_reward"));
+        symbols.put("+1000", Map.of("extra", 1000, "type", "bonus", "impact", "extra_bonus"));
+        symbols.put("+500", Map.of("extra", 500, "type", "bonus", "impact", "extra_bonus"));
+        symbols.put("MISS", Map.of("type", "bonus", "impact", "miss"));
+        return symbols;
+    }
+
+    private static Map<String, Object> probabilities(int rows, int columns) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = 0; i < STANDARD_SYMBOLS.length; i++) {
+            weights.put(STANDARD_SYMBOLS[i], i + 1);
+        }
+        List<Object> standardSymbols = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                standardSymbols.add(Map.of("row", row, "column", column, "symbols", weights));
+            }
+        }
+        Map<String, Integer> bonusWeights = Map.of("10x", 1, "5x", 2, "+1000", 3, "+500", 4, "MISS", 5);
+        return Map.of("standard_symbols", standardSymbols, "bonus_symbols", Map.of("symbols", bonusWeights));
+    }
+
+    private static Map<String, Object> winCombinations(int rows, int columns) {
+        Map<String, Object> combinations = new LinkedHashMap<>();
+        for (int count = 3; count <= rows * columns; count++) {
+            combinations.put("same_symbol_" + count + "_times", Map.of(
+                    "reward_multiplier", Math.max(1, count - 2),
+                    "when", "same_symbols",
+                    "count", count,
+                    "group", "same_symbols"));
+        }
+
+        int length = Math.min(MAX_LINE_LENGTH, Math.min(rows, columns));
+        combinations.put("same_symbols_horizontally", linear(2, "horizontally_linear_symbols", lines(rows, columns, length, 0, 1)));
+        combinations.put("same_symbols_vertically", linear(2, "vertically_linear_symbols", lines(rows, columns, length, 1, 0)));
+        combinations.put("same_symbols_diagonally_left_to_right", linear(5, "ltr_diagonally_linear_symbols", lines(rows, columns, length, 1, 1)));
+        combinations.put("same_symbols_diagonally_right_to_left", linear(5, "rtl_diagonally_linear_symbols", lines(rows, columns, length, 1, -1)));
+        return combinations;
+    }
+
+    private static Map<String, Object> linear(double rewardMultiplier, String group, List<List<String>> coveredAreas) {
+        return Map.of("reward_multiplier", rewardMultiplier, "when", "linear_symbols", "group", group, "covered_areas", coveredAreas);
+    }
+
+    private static List<List<String>> lines(int rows, int columns, int length, int rowStep, int columnStep) {
+        List<List<String>> lines = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int lastRow = row + rowStep * (length - 1);
+                int lastColumn = column + columnStep * (length - 1);
+                if (lastRow < 0 || lastRow >= rows || lastColumn < 0 || lastColumn >= columns) {
+                    continue;
+                }
+                List<String> line = new ArrayList<>();
+                for (int i = 0; i < length; i++) {
+                    line.add((row + rowStep * i) + ":" + (column + columnStep * i));
+                }
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,31 @@
+package com.game.benchmark;
+
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLoaderBenchmark {
+
+    @Benchmark
+    public GameConfig loadConfig(GameState state) throws Exception {
+        return ConfigLoader.loadConfig(state.configFile.toString());
+    }
+
+    @Benchmark
+    public CompiledGame loadCompiledGame(GameState state) throws Exception {
+        return ConfigLoader.loadCompiledGame(state.configFile.toString());
+    }
+
+    @Benchmark
+    public GameConfig loadConfigStreaming(GameState state) throws Exception {
+        return ConfigLoader.loadConfigStreaming(state.configFile.toString());
+    }
+}
@@ -0,0 +1,32 @@
+package com.game.benchmark;
+
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.file.Path;
+
+@State(Scope.Benchmark)
+public class GameState {
+    static final double BETTING_AMOUNT = 100;
+
+    @Param({"3x3", "5x5", "10x10"})
+    public String size;
+
+    Path configFile;
+    CompiledGame game;
+    int[] cells;
+    String[][] matrix;
+
+    @Setup
+    public void setUp() throws Exception {
+        configFile = BenchmarkConfigs.write(size);
+        game = ConfigLoader.loadCompiledGame(configFile.toString());
+        cells = MatrixGenerator.generateCells(game);
+        matrix = game.decode(cells);
+    }
+}
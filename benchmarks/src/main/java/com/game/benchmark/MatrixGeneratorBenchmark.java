@@ -0,0 +1,25 @@
+package com.game.benchmark;
+
+import com.game.generator.MatrixGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixGeneratorBenchmark {
+
+    @Benchmark
+    public String[][] generateMatrix(GameState state) {
+        return MatrixGenerator.generate(state.game);
+    }
+
+    @Benchmark
+    public int[] fillCells(GameState state) {
+        MatrixGenerator.fillCells(state.game, state.cells);
+        return state.cells;
+    }
+}
@@ -0,0 +1,31 @@
+package com.game.benchmark;
+
+import com.game.batch.TicketBatch;
+import com.game.batch.TicketBatchGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TicketBatchBenchmark {
+    private static final int BATCH_SIZE = 10_000;
+
+    private TicketBatch batch;
+
+    @Setup
+    public void setUp(GameState state) {
+        batch = new TicketBatch(state.game, BATCH_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public TicketBatch fillBatch() {
+        TicketBatchGenerator.fill(batch, GameState.BETTING_AMOUNT, BATCH_SIZE);
+        return batch;
+    }
+}
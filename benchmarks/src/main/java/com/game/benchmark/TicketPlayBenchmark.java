@@ -0,0 +1,39 @@
+package com.game.benchmark;
+
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.generator.MatrixGenerator;
+import com.game.model.GameResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TicketPlayBenchmark {
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+    private ScoringContext context;
+    private int[] cells;
+
+    @Setup
+    public void setUp(GameState state) {
+        context = new ScoringContext(state.game);
+        cells = new int[state.game.getCellCount()];
+    }
+
+    @Benchmark
+    public GameResult playTicket(GameState state) {
+        int[] generated = MatrixGenerator.generateCells(state.game);
+        return calculator.calculateWinningsCombination(generated, GameState.BETTING_AMOUNT, state.game);
+    }
+
+    @Benchmark
+    public double playTicketWithContext(GameState state) {
+        MatrixGenerator.fillCells(state.game, cells);
+        return calculator.calculateReward(cells, GameState.BETTING_AMOUNT, state.game, context);
+    }
+}
@@ -0,0 +1,39 @@
+package com.game.benchmark;
+
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.model.GameResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WinningCombinationCalculatorBenchmark {
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+    private ScoringContext context;
+
+    @Setup
+    public void setUp(GameState state) {
+        context = new ScoringContext(state.game);
+    }
+
+    @Benchmark
+    public GameResult scoreMatrix(GameState state) {
+        return calculator.calculateWinningsCombination(state.matrix, GameState.BETTING_AMOUNT, state.game);
+    }
+
+    @Benchmark
+    public GameResult scoreCells(GameState state) {
+        return calculator.calculateWinningsCombination(state.cells, GameState.BETTING_AMOUNT, state.game);
+    }
+
+    @Benchmark
+    public double scoreWithContext(GameState state) {
+        return calculator.calculateReward(state.cells, GameState.BETTING_AMOUNT, state.game, context);
+    }
+}
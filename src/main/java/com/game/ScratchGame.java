@@ -1,71 +1,345 @@
 package com.game;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.game.audit.AuditReport;
+import com.game.audit.AuditVerifier;
+import com.game.book.TicketBookWriter;
+import com.game.calculator.ScoreCache;
+import com.game.calculator.ScoringContext;
 import com.game.calculator.WinningCombinationCalculator;
 import com.game.config.ConfigLoader;
-import com.game.config.GameConfig;
+import com.game.config.ConfigReader;
+import com.game.config.ConfigRegistry;
+import com.game.config.GameRegistry;
+import com.game.engine.CompiledGame;
+import com.game.engine.ConfigAnalysis;
+import com.game.engine.ConfigAnalyzer;
+import com.game.engine.ConfigIssue;
 import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
+import com.game.metrics.GameMetrics;
 import com.game.model.GameResult;
+import com.game.output.GameResultWriter;
+import com.game.server.TicketServer;
+import com.game.simulation.ExactRtpCalculator;
+import com.game.simulation.ExactRtpReport;
+import com.game.simulation.RtpSimulator;
+import com.game.simulation.SimulationReport;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class ScratchGame {
     private static final String CONFIG = "--config";
     private static final String BETTING_AMOUNT = "--betting-amount";
+    private static final String SIMULATE = "--simulate";
+    private static final String EXACT_RTP = "--exact-rtp";
+    private static final String SERVE = "--serve";
+    private static final String GAMES = "--games";
+    private static final String TICKETS = "--tickets";
+    private static final String BOOK = "--book";
+    private static final String SEED = "--seed";
+    private static final String REPLAY = "--replay";
+    private static final String CACHE = "--cache";
+    private static final String METRICS = "--metrics";
+    private static final String STREAMING_CONFIG = "--streaming-config";
+    private static final String ANALYZE = "--analyze";
+    private static final String AUDIT = "--audit";
+    private static final String MISMATCHES = "--mismatches";
+    private static final String MISMATCHES_SUFFIX = ".mismatches.ndjson";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final String USAGE = "Usage: java -jar <your-jar-file> --config <config-file-path> --betting-amount <amount> [--simulate <tickets> | --exact-rtp | --analyze | --tickets <count> [--book <file>] | --audit <file> [--mismatches <file>]] [--seed <seed> [--replay <ticket>]] [--cache <entries>] [--metrics] [--streaming-config] | (--config <config-file-path> | --games <config-directory>) --serve <port> [--cache <entries>] [--metrics] [--streaming-config]";
 
-    public static void printMatrix(String[][] matrix) {
-        if (matrix == null || matrix.length == 0) {
-            System.out.println("The matrix is empty.");
+    public static void main(String[] args) throws Exception {
+        var argsMap = readArgs(args);
+
+        var bettingAmount = argsMap.get(BETTING_AMOUNT);
+        var configFilePath = argsMap.get(CONFIG);
+        ScoreCache cache = argsMap.containsKey(CACHE) ? new ScoreCache(Integer.parseInt(argsMap.get(CACHE))) : null;
+        GameMetrics metrics = new GameMetrics(argsMap.containsKey(METRICS));
+        ConfigReader reader = argsMap.containsKey(STREAMING_CONFIG) ? ConfigLoader::loadConfigStreaming : ConfigLoader::loadConfig;
+        if (cache != null) {
+            metrics.setScoreCache(cache);
+        }
+
+        if (argsMap.containsKey(SERVE) && argsMap.containsKey(GAMES)) {
+            metrics.registerMBean();
+            GameRegistry registry = new GameRegistry(reader);
+            Path directory = Path.of(argsMap.get(GAMES));
+            registry.registerAll(directory);
+            registry.watch(directory);
+            TicketServer server = new TicketServer(registry, Integer.parseInt(argsMap.get(SERVE)), cache, metrics);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            System.out.println("Serving tickets on port " + server.getPort() + " for games " + registry.getGameIds());
+            return;
+        }
+        if (argsMap.containsKey(SERVE)) {
+            // Registered even when disabled, so instrumentation can be switched on over JMX without a restart.
+            metrics.registerMBean();
+            ConfigRegistry registry = new ConfigRegistry(Path.of(configFilePath), metrics, reader);
+            registry.watch();
+            TicketServer server = new TicketServer(registry, Integer.parseInt(argsMap.get(SERVE)), cache, metrics);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            System.out.println("Serving tickets on port " + server.getPort() + ", watching " + registry.getConfigFile());
             return;
         }
 
-        for (String[] row : matrix) {
-            System.out.print("\t\t[");
-            for (int j = 0; j < row.length; j++) {
-                System.out.print(row[j]);
-                if (j < row.length - 1) {
-                    System.out.print(", ");
-                }
-            }
-            System.out.println("]");
+        if (argsMap.containsKey(ANALYZE)) {
+            // Analyzes the raw config, so problems compilation would reject one at a time are all reported.
+            print(ConfigAnalyzer.analyze(reader.read(configFilePath)), Double.parseDouble(bettingAmount));
+            return;
         }
-    }
 
-    public static void main(String[] args) throws Exception {
-        var argsMap = readArgs(args);
+        long loadStart = System.nanoTime();
+        CompiledGame game = CompiledGame.compile(reader.read(configFilePath));
+        if (metrics.isEnabled()) {
+            metrics.recordConfigLoad(System.nanoTime() - loadStart);
+        }
+        Long seed = argsMap.containsKey(SEED) ? Long.valueOf(argsMap.get(SEED)) : null;
 
-        var bettingAmount = argsMap.get(BETTING_AMOUNT);
-        var configFilePath = argsMap.get(CONFIG);
+        if (argsMap.containsKey(SIMULATE)) {
+            RtpSimulator simulator = new RtpSimulator(cache, metrics);
+            long tickets = Long.parseLong(argsMap.get(SIMULATE));
+            SimulationReport report = seed == null
+                    ? simulator.simulate(game, tickets, Double.parseDouble(bettingAmount))
+                    : simulator.simulate(game, tickets, Double.parseDouble(bettingAmount), seed);
+            print(report, cache);
+            // On stderr, so stdout stays a single JSON document.
+            if (metrics.isEnabled()) {
+                System.err.print(metrics.toText());
+            }
+            return;
+        }
+        if (argsMap.containsKey(TICKETS) && argsMap.containsKey(BOOK)) {
+            writeBook(game, Long.parseLong(argsMap.get(TICKETS)), Double.parseDouble(bettingAmount), seed, Path.of(argsMap.get(BOOK)));
+            return;
+        }
+        if (argsMap.containsKey(TICKETS)) {
+            printTickets(game, Long.parseLong(argsMap.get(TICKETS)), Double.parseDouble(bettingAmount), seed);
+            return;
+        }
+        if (argsMap.containsKey(AUDIT)) {
+            Path input = Path.of(argsMap.get(AUDIT));
+            Path mismatches = argsMap.containsKey(MISMATCHES)
+                    ? Path.of(argsMap.get(MISMATCHES))
+                    : Path.of(argsMap.get(AUDIT) + MISMATCHES_SUFFIX);
+            print(new AuditVerifier().verify(game, Double.parseDouble(bettingAmount), input, mismatches), mismatches);
+            return;
+        }
+        if (argsMap.containsKey(EXACT_RTP)) {
+            print(new ExactRtpCalculator().calculate(game, Double.parseDouble(bettingAmount)));
+            return;
+        }
 
-        GameConfig gameConfig = ConfigLoader.loadConfig(configFilePath);
-        String[][] matrix = MatrixGenerator.generate(gameConfig);
+        long ticket = argsMap.containsKey(REPLAY) ? Long.parseLong(argsMap.get(REPLAY)) : 0;
+        int[] cells = seed == null
+                ? MatrixGenerator.generateCells(game)
+                : MatrixGenerator.generateSeededCells(game, seed, ticket);
 
         WinningCombinationCalculator calculator = new WinningCombinationCalculator();
 
-        GameResult gameResult = calculator.calculateWinningsCombination(matrix, Double.parseDouble(bettingAmount), gameConfig);
+        GameResult gameResult = calculator.calculateWinningsCombination(cells, Double.parseDouble(bettingAmount), game);
 
         print(gameResult);
     }
 
-    static void print(GameResult gameResult) {
-        System.out.println("{");
-        System.out.println("\t" + withinDoubleQuote("matrix") + "[");
-        printMatrix(gameResult.getMatrix());
-        System.out.print("\t],\n");
-        System.out.println("\t" + withinDoubleQuote("reward") + BigDecimal.valueOf(gameResult.getTotalReward()).setScale(2, RoundingMode.CEILING).toPlainString() + ",");
-        System.out.println("\t" + withinDoubleQuote("applied_winning_combinations") + gameResult.getAppliedCombinations() + ",");
-        System.out.println("\t" + withinDoubleQuote("applied_bonus_symbol") + gameResult.getAppliedBonusSymbol());
-        System.out.println("}");
+    static void print(GameResult gameResult) throws IOException {
+        try (GameResultWriter writer = GameResultWriter.pretty(System.out)) {
+            writer.write(gameResult);
+        }
+    }
+
+    // Streams NDJSON, one line per ticket, reusing the cells and scoring context across tickets.
+    static void printTickets(CompiledGame game, long tickets, double bettingAmount, Long seed) throws IOException {
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        ScoringContext context = new ScoringContext(game);
+        int[] cells = new int[game.getCellCount()];
+        try (GameResultWriter writer = GameResultWriter.ndjson(new BufferedOutputStream(System.out, OUTPUT_BUFFER_SIZE))) {
+            RandomGenerator random = ThreadLocalRandom.current();
+            for (long ticket = 0; ticket < tickets; ticket++) {
+                random = ticketRandom(seed, ticket, random);
+                MatrixGenerator.fillCells(game, cells, random);
+                double reward = calculator.calculateReward(cells, bettingAmount, game, context);
+                writer.write(cells, reward, context);
+            }
+        }
+        System.out.flush();
+    }
+
+    static void writeBook(CompiledGame game, long tickets, double bettingAmount, Long seed, Path path) throws IOException {
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        ScoringContext context = new ScoringContext(game);
+        int[] cells = new int[game.getCellCount()];
+        try (TicketBookWriter writer = new TicketBookWriter(path, game, bettingAmount)) {
+            RandomGenerator random = ThreadLocalRandom.current();
+            for (long ticket = 0; ticket < tickets; ticket++) {
+                random = ticketRandom(seed, ticket, random);
+                MatrixGenerator.fillCells(game, cells, random);
+                writer.write(cells, calculator.calculateReward(cells, bettingAmount, game, context), context);
+            }
+        }
+        System.out.println("Wrote " + tickets + " tickets to " + path);
+    }
+
+    // With a seed, each block of TICKETS_PER_STREAM tickets draws in order from its own stream, so any exported
+    // ticket can be replayed with MatrixGenerator.generateSeededCells.
+    private static RandomGenerator ticketRandom(Long seed, long ticket, RandomGenerator current) {
+        if (seed == null || ticket % RandomStreams.TICKETS_PER_STREAM != 0) {
+            return current;
+        }
+        return RandomStreams.stream(seed, ticket / RandomStreams.TICKETS_PER_STREAM);
     }
 
-    static String withinDoubleQuote(String value) {
-        return String.format("\"%s\":", value);
+    static void print(SimulationReport report, ScoreCache cache) throws IOException {
+        try (JsonGenerator json = jsonToStdout()) {
+            json.writeStartObject();
+            json.writeNumberField("tickets", report.getTickets());
+            json.writeNumberField("betting_amount", report.getBettingAmount());
+            json.writeNumberField("total_payout", report.getTotalPayout());
+            json.writeNumberField("rtp", report.getReturnToPlayer());
+            json.writeNumberField("hit_rate", report.getHitRate());
+            json.writeNumberField("variance", report.getVariance());
+            json.writeNumberField("max_win", report.getMaxWin());
+            writeCounts(json, "combination_hits", report.getCombinationHits());
+            writeCounts(json, "bonus_symbol_hits", report.getBonusSymbolHits());
+            json.writeNumberField("elapsed_ms", report.getElapsedMillis());
+            if (cache != null) {
+                writeCache(json, cache);
+            }
+            json.writeEndObject();
+        }
+        System.out.println();
+    }
+
+    private static void writeCache(JsonGenerator json, ScoreCache cache) throws IOException {
+        json.writeObjectFieldStart("cache");
+        json.writeNumberField("capacity", cache.getCapacity());
+        json.writeNumberField("size", cache.size());
+        json.writeNumberField("hits", cache.getHits());
+        json.writeNumberField("misses", cache.getMisses());
+        json.writeNumberField("hit_rate", cache.hitRate());
+        json.writeNumberField("evictions", cache.getEvictions());
+        json.writeEndObject();
+    }
+
+    private static void writeCounts(JsonGenerator json, String fieldName, Map<String, Long> counts) throws IOException {
+        json.writeObjectFieldStart(fieldName);
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            json.writeNumberField(count.getKey(), count.getValue());
+        }
+        json.writeEndObject();
+    }
+
+    private static JsonGenerator jsonToStdout() throws IOException {
+        JsonGenerator json = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET).createGenerator(System.out);
+        json.useDefaultPrettyPrinter();
+        return json;
+    }
+
+    static void print(AuditReport report, Path mismatches) throws IOException {
+        try (JsonGenerator json = jsonToStdout()) {
+            json.writeStartObject();
+            json.writeNumberField("tickets", report.getTickets());
+            json.writeNumberField("matched", report.getMatched());
+            json.writeNumberField("mismatched", report.getMismatched());
+            json.writeNumberField("malformed", report.getMalformed());
+            json.writeNumberField("claimed_payout", report.getClaimedPayout());
+            json.writeNumberField("actual_payout", report.getActualPayout());
+            json.writeStringField("mismatches_file", mismatches.toString());
+            json.writeNumberField("elapsed_ms", report.getElapsedMillis());
+            json.writeEndObject();
+        }
+        System.out.println();
+    }
+
+    static void print(ConfigAnalysis analysis, double bettingAmount) throws IOException {
+        try (JsonGenerator json = jsonToStdout()) {
+            json.writeStartObject();
+            json.writeNumberField("max_payout_multiplier", analysis.getMaxPayoutMultiplier());
+            json.writeNumberField("max_extra_bonus", analysis.getMaxExtraBonus());
+            json.writeNumberField("max_payout", analysis.maxPayout(bettingAmount));
+            json.writeArrayFieldStart("dead_win_combinations");
+            for (String name : analysis.getDeadWinCombinations()) {
+                json.writeString(name);
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("issues");
+            for (ConfigIssue issue : analysis.getIssues()) {
+                json.writeStartObject();
+                json.writeStringField("type", issue.getType().name());
+                json.writeStringField("win_combination", issue.getWinCombination());
+                json.writeStringField("detail", issue.getDetail());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeNumberField("scored_pattern_count", analysis.scoredPatternCount());
+            json.writeObjectFieldStart("scored_patterns");
+            for (Map.Entry<String, List<List<String>>> entry : analysis.getScoredPatterns().entrySet()) {
+                json.writeArrayFieldStart(entry.getKey());
+                for (List<String> pattern : entry.getValue()) {
+                    json.writeStartArray();
+                    for (String coordinate : pattern) {
+                        json.writeString(coordinate);
+                    }
+                    json.writeEndArray();
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        System.out.println();
+    }
+
+    static void print(ExactRtpReport report) throws IOException {
+        try (JsonGenerator json = jsonToStdout()) {
+            json.writeStartObject();
+            json.writeStringField("method", report.getMethod().name());
+            json.writeNumberField("betting_amount", report.getBettingAmount());
+            writeFiniteField(json, "expected_payout", report.getExpectedPayout());
+            writeFiniteField(json, "rtp", report.getReturnToPlayer());
+            writeFiniteField(json, "hit_rate", report.getHitRate());
+            json.writeNumberField("elapsed_ms", report.getElapsedMillis());
+            json.writeEndObject();
+        }
+        System.out.println();
+    }
+
+    // JSON has no NaN or Infinity, so a non-finite value (e.g. an overflowing payout) is written as null.
+    private static void writeFiniteField(JsonGenerator json, String fieldName, double value) throws IOException {
+        if (Double.isFinite(value)) {
+            json.writeNumberField(fieldName, value);
+        } else {
+            json.writeNullField(fieldName);
+        }
     }
 
     static Map<String, String> readArgs(String[] args) {
         String configFilePath = null;
         int bettingAmount = 0;
+        String simulatedTickets = null;
+        String exportedTickets = null;
+        String bookPath = null;
+        String seed = null;
+        String replay = null;
+        String cacheEntries = null;
+        String auditPath = null;
+        String mismatchesPath = null;
+        String gamesDirectory = null;
+        boolean exactRtp = false;
+        boolean analyze = false;
+        boolean metrics = false;
+        boolean streamingConfig = false;
+        String port = null;
 
         for (int i = 0; i < args.length; i++) {
             if (CONFIG.equals(args[i]) && i + 1 < args.length) {
@@ -77,14 +351,137 @@ public class ScratchGame {
                     System.err.println("Invalid betting amount: " + args[i]);
                     throw new IllegalArgumentException("Invalid betting amount: " + args[i]);
                 }
+            } else if (SERVE.equals(args[i]) && i + 1 < args.length) {
+                port = args[++i];
+                if (!isPort(port)) {
+                    System.err.println("Invalid port: " + port);
+                    throw new IllegalArgumentException("Invalid port: " + port);
+                }
+            } else if (EXACT_RTP.equals(args[i])) {
+                exactRtp = true;
+            } else if (ANALYZE.equals(args[i])) {
+                analyze = true;
+            } else if (METRICS.equals(args[i])) {
+                metrics = true;
+            } else if (STREAMING_CONFIG.equals(args[i])) {
+                streamingConfig = true;
+            } else if (TICKETS.equals(args[i]) && i + 1 < args.length) {
+                exportedTickets = args[++i];
+                if (!isPositiveNumber(exportedTickets)) {
+                    System.err.println("Invalid number of tickets: " + exportedTickets);
+                    throw new IllegalArgumentException("Invalid number of tickets: " + exportedTickets);
+                }
+            } else if (SEED.equals(args[i]) && i + 1 < args.length) {
+                seed = args[++i];
+                if (!isLong(seed)) {
+                    System.err.println("Invalid seed: " + seed);
+                    throw new IllegalArgumentException("Invalid seed: " + seed);
+                }
+            } else if (REPLAY.equals(args[i]) && i + 1 < args.length) {
+                replay = args[++i];
+                if (!isLong(replay) || Long.parseLong(replay) < 0) {
+                    System.err.println("Invalid ticket to replay: " + replay);
+                    throw new IllegalArgumentException("Invalid ticket to replay: " + replay);
+                }
+            } else if (CACHE.equals(args[i]) && i + 1 < args.length) {
+                cacheEntries = args[++i];
+                if (!isPositiveNumber(cacheEntries) || Long.parseLong(cacheEntries) > Integer.MAX_VALUE) {
+                    System.err.println("Invalid cache size: " + cacheEntries);
+                    throw new IllegalArgumentException("Invalid cache size: " + cacheEntries);
+                }
+            } else if (AUDIT.equals(args[i]) && i + 1 < args.length) {
+                auditPath = args[++i];
+            } else if (MISMATCHES.equals(args[i]) && i + 1 < args.length) {
+                mismatchesPath = args[++i];
+            } else if (GAMES.equals(args[i]) && i + 1 < args.length) {
+                gamesDirectory = args[++i];
+            } else if (BOOK.equals(args[i]) && i + 1 < args.length) {
+                bookPath = args[++i];
+            } else if (SIMULATE.equals(args[i]) && i + 1 < args.length) {
+                simulatedTickets = args[++i];
+                if (!isPositiveNumber(simulatedTickets)) {
+                    System.err.println("Invalid number of simulated tickets: " + simulatedTickets);
+                    throw new IllegalArgumentException("Invalid number of simulated tickets: " + simulatedTickets);
+                }
             }
         }
 
-        if (configFilePath == null || bettingAmount <= 0) {
-            System.err.println("Usage: java -jar <your-jar-file> --config <config-file-path> --betting-amount <amount>");
-            throw new IllegalArgumentException("Usage: java -jar <your-jar-file> --config <config-file-path> --betting-amount <amount>");
+        if ((configFilePath == null && (gamesDirectory == null || port == null)) || (bettingAmount <= 0 && port == null) || (replay != null && seed == null)) {
+            System.err.println(USAGE);
+            throw new IllegalArgumentException(USAGE);
+        }
+
+        Map<String, String> argsMap = new HashMap<>();
+        argsMap.put(CONFIG, configFilePath);
+        argsMap.put(BETTING_AMOUNT, String.valueOf(bettingAmount));
+        if (simulatedTickets != null) {
+            argsMap.put(SIMULATE, simulatedTickets);
+        }
+        if (exportedTickets != null) {
+            argsMap.put(TICKETS, exportedTickets);
+        }
+        if (bookPath != null) {
+            argsMap.put(BOOK, bookPath);
+        }
+        if (seed != null) {
+            argsMap.put(SEED, seed);
+        }
+        if (replay != null) {
+            argsMap.put(REPLAY, replay);
+        }
+        if (cacheEntries != null) {
+            argsMap.put(CACHE, cacheEntries);
+        }
+        if (auditPath != null) {
+            argsMap.put(AUDIT, auditPath);
+        }
+        if (mismatchesPath != null) {
+            argsMap.put(MISMATCHES, mismatchesPath);
+        }
+        if (exactRtp) {
+            argsMap.put(EXACT_RTP, Boolean.TRUE.toString());
+        }
+        if (analyze) {
+            argsMap.put(ANALYZE, Boolean.TRUE.toString());
+        }
+        if (metrics) {
+            argsMap.put(METRICS, Boolean.TRUE.toString());
+        }
+        if (streamingConfig) {
+            argsMap.put(STREAMING_CONFIG, Boolean.TRUE.toString());
+        }
+        if (port != null) {
+            argsMap.put(SERVE, port);
+        }
+        if (gamesDirectory != null) {
+            argsMap.put(GAMES, gamesDirectory);
+        }
+        return argsMap;
+    }
+
+    private static boolean isPort(String value) {
+        try {
+            int port = Integer.parseInt(value);
+            return port >= 0 && port <= 65535;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isLong(String value) {
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
+    }
 
-        return Map.of(CONFIG, configFilePath, BETTING_AMOUNT, String.valueOf(bettingAmount));
+    private static boolean isPositiveNumber(String value) {
+        try {
+            return Long.parseLong(value) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.game.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class AuditReport {
+    private final long tickets;
+    private final long matched;
+    private final long mismatched;
+    private final long malformed;
+    private final double claimedPayout;
+    private final double actualPayout;
+    private final long elapsedMillis;
+
+    public boolean isClean() {
+        return mismatched == 0 && malformed == 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.game.audit;
+
+final class AuditStats {
+    private long tickets;
+    private long matched;
+    private long mismatched;
+    private long malformed;
+    private double claimedPayout;
+    private double actualPayout;
+
+    void recordVerified(double claimedReward, double actualReward, boolean matches) {
+        tickets++;
+        claimedPayout += claimedReward;
+        actualPayout += actualReward;
+        if (matches) {
+            matched++;
+        } else {
+            mismatched++;
+        }
+    }
+
+    void recordMalformed() {
+        tickets++;
+        malformed++;
+    }
+
+    AuditStats merge(AuditStats other) {
+        tickets += other.tickets;
+        matched += other.matched;
+        mismatched += other.mismatched;
+        malformed += other.malformed;
+        claimedPayout += other.claimedPayout;
+        actualPayout += other.actualPayout;
+        return this;
+    }
+
+    AuditReport toReport(long elapsedMillis) {
+        return new AuditReport(tickets, matched, mismatched, malformed, claimedPayout, actualPayout, elapsedMillis);
+    }
+}
@@ -0,0 +1,388 @@
+package com.game.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.enums.AuditFormat;
+import com.game.output.GameResultWriter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.game.errors.AuditErrors.INVALID_CELL_COUNT;
+import static com.game.errors.AuditErrors.INVALID_CHUNK_SIZE;
+import static com.game.errors.AuditErrors.INVALID_REWARD;
+import static com.game.errors.AuditErrors.INVALID_TICKET;
+import static com.game.errors.AuditErrors.INVALID_WORKER_COUNT;
+import static com.game.errors.AuditErrors.MISSING_MATRIX;
+import static com.game.errors.AuditErrors.MISSING_REWARD;
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+
+/**
+ * Re-scores audit files of previously issued tickets and writes out the ones whose claimed reward does not match.
+ * <p>
+ * The calling thread only reads lines into chunks and hands them to a bounded queue; workers parse, score and compare
+ * every line with their own scoring context. Memory therefore stays at a few chunks per worker whatever the file
+ * size, and a full queue blocks the reader until the workers catch up. Each mismatched or malformed line becomes one
+ * NDJSON record carrying its 1-based line number; records of different chunks may come out of line order.
+ * <p>
+ * NDJSON lines are tickets as {@link GameResultWriter} writes them: a {@code matrix} of symbol names and the claimed
+ * {@code reward}, optionally with a {@code betting_amount}; other fields are ignored. CSV lines hold the grid's symbols
+ * in row-major order, then the claimed reward and optionally the betting amount; a first line whose reward column is
+ * not a number is a header.
+ */
+public final class AuditVerifier {
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final Chunk END = new Chunk(0, new String[0], 0);
+
+    private final int workers;
+    private final int chunkSize;
+
+    public AuditVerifier() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public AuditVerifier(int workers, int chunkSize) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException(INVALID_WORKER_COUNT);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(INVALID_CHUNK_SIZE);
+        }
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Verifies {@code input}, read as CSV for a {@code .csv} file and as NDJSON otherwise, into {@code mismatches}.
+     */
+    public AuditReport verify(CompiledGame game, double bettingAmount, Path input, Path mismatches) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(input), StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+             Writer writer = Files.newBufferedWriter(mismatches, StandardCharsets.UTF_8)) {
+            return verify(game, bettingAmount, reader, AuditFormat.of(input), writer);
+        }
+    }
+
+    /**
+     * @param bettingAmount the bet of tickets that do not carry their own
+     */
+    public AuditReport verify(CompiledGame game, double bettingAmount, BufferedReader input, AuditFormat format,
+                              Writer mismatches) throws IOException {
+        if (bettingAmount <= 0) {
+            throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+        }
+
+        long start = System.nanoTime();
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(2 * workers);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<AuditStats>> results = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(new Worker(game, bettingAmount, format, queue, mismatches, failure)));
+            }
+            readChunks(input, queue, failure);
+            for (int i = 0; i < workers; i++) {
+                queue.put(END);
+            }
+
+            AuditStats stats = new AuditStats();
+            for (Future<AuditStats> result : results) {
+                stats.merge(result.get());
+            }
+            Exception error = failure.get();
+            if (error instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (error != null) {
+                throw (RuntimeException) error;
+            }
+            mismatches.flush();
+            return stats.toReport((System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // Unblocks workers still waiting for a chunk when reading failed.
+            executor.shutdownNow();
+        }
+    }
+
+    private void readChunks(BufferedReader input, BlockingQueue<Chunk> queue, AtomicReference<Exception> failure)
+            throws IOException, InterruptedException {
+        long firstLine = 1;
+        String[] lines = new String[chunkSize];
+        int size = 0;
+        String line;
+        while (failure.get() == null && (line = input.readLine()) != null) {
+            lines[size++] = line;
+            if (size == chunkSize) {
+                queue.put(new Chunk(firstLine, lines, size));
+                firstLine += size;
+                lines = new String[chunkSize];
+                size = 0;
+            }
+        }
+        if (size > 0) {
+            queue.put(new Chunk(firstLine, lines, size));
+        }
+    }
+
+    private static final class Chunk {
+        private final long firstLine;
+        private final String[] lines;
+        private final int size;
+
+        private Chunk(long firstLine, String[] lines, int size) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.size = size;
+        }
+    }
+
+    private static final class Worker implements Callable<AuditStats> {
+        private final CompiledGame game;
+        private final double defaultBettingAmount;
+        private final AuditFormat format;
+        private final BlockingQueue<Chunk> queue;
+        private final Writer mismatches;
+        private final AtomicReference<Exception> failure;
+        private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        private final ScoringContext context;
+        private final int[] cells;
+        private final String[] fields;
+        private final AuditStats stats = new AuditStats();
+        private final StringWriter buffer = new StringWriter();
+        private double claimedReward;
+        private double bettingAmount;
+
+        private Worker(CompiledGame game, double defaultBettingAmount, AuditFormat format, BlockingQueue<Chunk> queue,
+                       Writer mismatches, AtomicReference<Exception> failure) {
+            this.game = game;
+            this.defaultBettingAmount = defaultBettingAmount;
+            this.format = format;
+            this.queue = queue;
+            this.mismatches = mismatches;
+            this.failure = failure;
+            this.context = new ScoringContext(game);
+            this.cells = new int[game.getCellCount()];
+            this.fields = new String[cells.length + 2];
+        }
+
+        @Override
+        public AuditStats call() throws Exception {
+            try (JsonGenerator output = JSON_FACTORY.createGenerator(buffer)) {
+                output.setPrettyPrinter(new MinimalPrettyPrinter(""));
+                while (true) {
+                    Chunk chunk = queue.take();
+                    if (chunk == END) {
+                        return stats;
+                    }
+                    // After a failure the remaining chunks are only drained, so the reader never blocks on a dead queue.
+                    if (failure.get() != null) {
+                        continue;
+                    }
+                    try {
+                        for (int i = 0; i < chunk.size; i++) {
+                            verifyLine(chunk.firstLine + i, chunk.lines[i], output);
+                        }
+                        publish(output);
+                    } catch (IOException | RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            }
+        }
+
+        private void verifyLine(long lineNumber, String line, JsonGenerator output) throws IOException {
+            if (line.isBlank()) {
+                return;
+            }
+            try {
+                boolean ticket = format == AuditFormat.CSV ? parseCsv(lineNumber, line) : parseNdjson(line);
+                if (!ticket) {
+                    return;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                stats.recordMalformed();
+                output.writeStartObject();
+                output.writeNumberField("line", lineNumber);
+                output.writeStringField("error", e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage());
+                endRecord(output);
+                return;
+            }
+
+            double actualReward = calculator.calculateReward(cells, bettingAmount, game, context);
+            boolean matches = GameResultWriter.isWrittenReward(claimedReward, actualReward);
+            stats.recordVerified(claimedReward, actualReward, matches);
+            if (!matches) {
+                output.writeStartObject();
+                output.writeNumberField("line", lineNumber);
+                output.writeNumberField("claimed_reward", claimedReward);
+                output.writeNumberField("actual_reward", actualReward);
+                endRecord(output);
+            }
+        }
+
+        private boolean parseNdjson(String line) throws IOException {
+            try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException(INVALID_TICKET);
+                }
+                boolean hasMatrix = false;
+                boolean hasReward = false;
+                bettingAmount = defaultBettingAmount;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "matrix" -> {
+                            readMatrix(parser);
+                            hasMatrix = true;
+                        }
+                        case "reward" -> {
+                            claimedReward = reward(parser.currentToken().isNumeric() ? parser.getDoubleValue() : Double.NaN, parser.getText());
+                            hasReward = true;
+                        }
+                        case "betting_amount" -> bettingAmount = bettingAmount(parser.currentToken().isNumeric() ? parser.getDoubleValue() : Double.NaN);
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (!hasMatrix) {
+                    throw new IllegalArgumentException(MISSING_MATRIX);
+                }
+                if (!hasReward) {
+                    throw new IllegalArgumentException(MISSING_REWARD);
+                }
+                return true;
+            }
+        }
+
+        private void readMatrix(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(MISSING_MATRIX);
+            }
+            int cell = 0;
+            int rows = 0;
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                rows++;
+                int rowStart = cell;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (cell == cells.length) {
+                        throw new IllegalArgumentException(INVALID_CELL_COUNT);
+                    }
+                    // GameResultWriter writes null for cells outside the symbol table.
+                    cells[cell++] = parser.currentToken() == JsonToken.VALUE_NULL
+                            ? CompiledGame.UNKNOWN_SYMBOL_ID
+                            : game.symbolId(parser.getText());
+                }
+                if (cell - rowStart != game.getColumns()) {
+                    throw new IllegalArgumentException(INVALID_CELL_COUNT);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY || rows != game.getRows()) {
+                throw new IllegalArgumentException(INVALID_CELL_COUNT);
+            }
+        }
+
+        private boolean parseCsv(long lineNumber, String line) {
+            int fieldCount = 0;
+            int from = 0;
+            while (true) {
+                int to = line.indexOf(',', from);
+                if (fieldCount == fields.length) {
+                    throw new IllegalArgumentException(INVALID_CELL_COUNT);
+                }
+                fields[fieldCount++] = (to < 0 ? line.substring(from) : line.substring(from, to)).trim();
+                if (to < 0) {
+                    break;
+                }
+                from = to + 1;
+            }
+            if (fieldCount < cells.length + 1) {
+                throw new IllegalArgumentException(INVALID_CELL_COUNT);
+            }
+
+            String rewardField = fields[cells.length];
+            double parsedReward = parseNumber(rewardField);
+            if (lineNumber == 1 && Double.isNaN(parsedReward)) {
+                return false;
+            }
+            for (int cell = 0; cell < cells.length; cell++) {
+                cells[cell] = game.symbolId(fields[cell]);
+            }
+            claimedReward = reward(parsedReward, rewardField);
+            bettingAmount = fieldCount > cells.length + 1
+                    ? bettingAmount(parseNumber(fields[cells.length + 1]))
+                    : defaultBettingAmount;
+            return true;
+        }
+
+        private void publish(JsonGenerator output) throws IOException {
+            output.flush();
+            StringBuffer records = buffer.getBuffer();
+            if (records.length() > 0) {
+                synchronized (mismatches) {
+                    mismatches.append(records);
+                }
+                records.setLength(0);
+            }
+        }
+
+        private static void endRecord(JsonGenerator output) throws IOException {
+            output.writeEndObject();
+            output.writeRaw('\n');
+        }
+
+        private static double parseNumber(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+        private static double reward(double value, String text) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException(INVALID_REWARD + text);
+            }
+            return value;
+        }
+
+        private static double bettingAmount(double value) {
+            if (!(value > 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.game.batch;
+
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.model.GameResult;
+
+import static com.game.errors.BatchErrors.BATCH_TOO_LARGE;
+import static com.game.errors.BatchErrors.INVALID_BATCH_CAPACITY;
+import static com.game.errors.BatchErrors.TICKET_OUT_OF_RANGE;
+
+/**
+ * Columnar buffer of generated and scored tickets. Ticket {@code i} occupies
+ * {@code cells[i * cellCount .. (i + 1) * cellCount)} and one slot in every other column;
+ * applied combinations are a bitmask indexed by {@link CompiledGame#winCombinationName(int)}.
+ */
+public final class TicketBatch {
+    private final CompiledGame game;
+    private final int capacity;
+    private final int cellCount;
+    private final int maskWords;
+    final int[] cells;
+    final double[] bets;
+    final double[] rewards;
+    final int[] bonusSymbolIds;
+    final long[] combinationMasks;
+    int size;
+
+    public TicketBatch(CompiledGame game, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_BATCH_CAPACITY);
+        }
+        this.game = game;
+        this.capacity = capacity;
+        this.cellCount = game.getCellCount();
+        this.maskWords = Math.max(1, (game.getWinCombinationCount() + Long.SIZE - 1) / Long.SIZE);
+        this.cells = new int[columnLength(capacity, cellCount)];
+        this.bets = new double[capacity];
+        this.rewards = new double[capacity];
+        this.bonusSymbolIds = new int[capacity];
+        this.combinationMasks = new long[columnLength(capacity, maskWords)];
+    }
+
+    private static int columnLength(int capacity, int slotsPerTicket) {
+        try {
+            return Math.multiplyExact(capacity, slotsPerTicket);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(BATCH_TOO_LARGE + capacity, e);
+        }
+    }
+
+    public CompiledGame getGame() {
+        return game;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    int getMaskWords() {
+        return maskWords;
+    }
+
+    public double bet(int ticket) {
+        return bets[checkTicket(ticket)];
+    }
+
+    public double reward(int ticket) {
+        return rewards[checkTicket(ticket)];
+    }
+
+    public int bonusSymbolId(int ticket) {
+        return bonusSymbolIds[checkTicket(ticket)];
+    }
+
+    public int symbolIdAt(int ticket, int cell) {
+        return cells[checkTicket(ticket) * cellCount + cell];
+    }
+
+    public void copyCells(int ticket, int[] target) {
+        System.arraycopy(cells, checkTicket(ticket) * cellCount, target, 0, cellCount);
+    }
+
+    public long combinationMask(int ticket, int word) {
+        return combinationMasks[checkTicket(ticket) * maskWords + word];
+    }
+
+    public boolean hasCombination(int ticket, int combinationIndex) {
+        return (combinationMask(ticket, combinationIndex / Long.SIZE) & (1L << (combinationIndex % Long.SIZE))) != 0;
+    }
+
+    public double totalReward() {
+        double total = 0.0;
+        for (int ticket = 0; ticket < size; ticket++) {
+            total += rewards[ticket];
+        }
+        return total;
+    }
+
+    public GameResult toGameResult(int ticket) {
+        int[] ticketCells = new int[cellCount];
+        copyCells(ticket, ticketCells);
+        return new WinningCombinationCalculator().calculateWinningsCombination(ticketCells, bets[ticket], game);
+    }
+
+    private int checkTicket(int ticket) {
+        if (ticket < 0 || ticket >= size) {
+            throw new IndexOutOfBoundsException(TICKET_OUT_OF_RANGE + ticket);
+        }
+        return ticket;
+    }
+}
@@ -0,0 +1,109 @@
+package com.game.batch;
+
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static com.game.errors.BatchErrors.BATCH_GAME_MISMATCH;
+import static com.game.errors.BatchErrors.INVALID_TICKET_COUNT;
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+
+public final class TicketBatchGenerator {
+
+    private TicketBatchGenerator() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    public static TicketBatch generate(CompiledGame game, double bettingAmount, int count) {
+        TicketBatch batch = new TicketBatch(game, count);
+        fill(batch, bettingAmount, count);
+        return batch;
+    }
+
+    public static TicketBatch generate(CompiledGame game, double bettingAmount, int count, RandomGenerator random) {
+        TicketBatch batch = new TicketBatch(game, count);
+        fill(batch, bettingAmount, count, random);
+        return batch;
+    }
+
+    public static TicketBatch generate(CompiledGame game, double[] bettingAmounts) {
+        TicketBatch batch = new TicketBatch(game, bettingAmounts.length);
+        fill(batch, bettingAmounts);
+        return batch;
+    }
+
+    public static void fill(TicketBatch batch, double bettingAmount, int count) {
+        fill(batch, bettingAmount, count, ThreadLocalRandom.current());
+    }
+
+    public static void fill(TicketBatch batch, double bettingAmount, int count, RandomGenerator random) {
+        if (count <= 0 || count > batch.getCapacity()) {
+            throw new IllegalArgumentException(INVALID_TICKET_COUNT);
+        }
+        Arrays.fill(batch.bets, 0, count, bettingAmount);
+        play(batch, count, random);
+    }
+
+    public static void fill(TicketBatch batch, double[] bettingAmounts) {
+        if (bettingAmounts.length == 0 || bettingAmounts.length > batch.getCapacity()) {
+            throw new IllegalArgumentException(INVALID_TICKET_COUNT);
+        }
+        System.arraycopy(bettingAmounts, 0, batch.bets, 0, bettingAmounts.length);
+        play(batch, bettingAmounts.length, ThreadLocalRandom.current());
+    }
+
+    public static void rescore(TicketBatch batch, CompiledGame game) {
+        if (batch.getGame() != game) {
+            throw new IllegalArgumentException(BATCH_GAME_MISMATCH);
+        }
+        BatchScorer scorer = new BatchScorer(batch);
+        for (int ticket = 0; ticket < batch.size; ticket++) {
+            System.arraycopy(batch.cells, ticket * batch.getCellCount(), scorer.cells, 0, batch.getCellCount());
+            scorer.score(ticket);
+        }
+    }
+
+    private static void play(TicketBatch batch, int count, RandomGenerator random) {
+        for (int ticket = 0; ticket < count; ticket++) {
+            if (batch.bets[ticket] <= 0) {
+                throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+            }
+        }
+
+        BatchScorer scorer = new BatchScorer(batch);
+        for (int ticket = 0; ticket < count; ticket++) {
+            MatrixGenerator.fillCells(batch.getGame(), scorer.cells, random);
+            System.arraycopy(scorer.cells, 0, batch.cells, ticket * batch.getCellCount(), batch.getCellCount());
+            scorer.score(ticket);
+        }
+        batch.size = count;
+    }
+
+    private static final class BatchScorer {
+        private final TicketBatch batch;
+        private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        private final ScoringContext context;
+        private final int[] cells;
+
+        private BatchScorer(TicketBatch batch) {
+            this.batch = batch;
+            this.context = new ScoringContext(batch.getGame());
+            this.cells = new int[batch.getCellCount()];
+        }
+
+        private void score(int ticket) {
+            batch.rewards[ticket] = calculator.calculateReward(cells, batch.bets[ticket], batch.getGame(), context);
+            batch.bonusSymbolIds[ticket] = context.getAppliedBonusSymbol();
+
+            int maskOffset = ticket * batch.getMaskWords();
+            for (int word = 0; word < batch.getMaskWords(); word++) {
+                batch.combinationMasks[maskOffset + word] = context.combinationMaskWord(word);
+            }
+        }
+    }
+}
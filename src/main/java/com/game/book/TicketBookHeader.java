@@ -0,0 +1,140 @@
+package com.game.book;
+
+import com.game.engine.CompiledGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static com.game.errors.TicketBookErrors.INVALID_TICKET_BOOK;
+
+/**
+ * Ticket book header, big-endian:
+ * <pre>
+ *  0  int     magic "STBK"
+ *  4  short   format version
+ *  6  short   symbol id width in bytes (1 or 2)
+ *  8  long    ticket count
+ * 16  byte[32] scoring fingerprint of the game
+ * 48  int     rows, int columns
+ * 56  double  betting amount
+ * 64  int     win combination count
+ * 68  int     symbol count
+ * 72  int     header length, i.e. offset of the first record
+ * 76  symbol dictionary: per symbol id, a short length and the UTF-8 name
+ * </pre>
+ * Every record is {@code cells * idWidth} symbol ids, the reward as a double and the applied
+ * combinations as a bitmask of {@code ceil(winCombinationCount / 8)} bytes.
+ */
+final class TicketBookHeader {
+    static final int MAGIC = 0x5354424B;
+    static final short FORMAT_VERSION = 1;
+    static final int TICKET_COUNT_OFFSET = 8;
+    private static final int FINGERPRINT_OFFSET = 16;
+    private static final int FINGERPRINT_LENGTH = 32;
+    private static final int FIXED_LENGTH = 76;
+
+    final int idWidth;
+    final byte[] fingerprint;
+    final int rows;
+    final int columns;
+    final double bettingAmount;
+    final int winCombinationCount;
+    final String[] symbolNames;
+    final int headerLength;
+    final int cellCount;
+    final int maskBytes;
+    final int recordSize;
+    long ticketCount;
+
+    private TicketBookHeader(int idWidth, byte[] fingerprint, int rows, int columns, double bettingAmount,
+                             int winCombinationCount, String[] symbolNames, int headerLength, long ticketCount) {
+        this.idWidth = idWidth;
+        this.fingerprint = fingerprint;
+        this.rows = rows;
+        this.columns = columns;
+        this.bettingAmount = bettingAmount;
+        this.winCombinationCount = winCombinationCount;
+        this.symbolNames = symbolNames;
+        this.headerLength = headerLength;
+        this.ticketCount = ticketCount;
+        this.cellCount = rows * columns;
+        this.maskBytes = (winCombinationCount + Byte.SIZE - 1) / Byte.SIZE;
+        this.recordSize = cellCount * idWidth + Double.BYTES + maskBytes;
+    }
+
+    static TicketBookHeader of(CompiledGame game, double bettingAmount) {
+        String[] symbolNames = new String[game.getSymbolCount()];
+        int headerLength = FIXED_LENGTH;
+        for (int id = 0; id < symbolNames.length; id++) {
+            symbolNames[id] = game.symbolName(id);
+            headerLength += Short.BYTES + symbolNames[id].getBytes(StandardCharsets.UTF_8).length;
+        }
+        int idWidth = symbolNames.length <= Byte.MAX_VALUE ? Byte.BYTES : Short.BYTES;
+        return new TicketBookHeader(idWidth, game.getFingerprint(), game.getRows(), game.getColumns(), bettingAmount,
+                game.getWinCombinationCount(), symbolNames, headerLength, 0);
+    }
+
+    ByteBuffer encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(headerLength);
+        buffer.putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putShort((short) idWidth)
+                .putLong(ticketCount)
+                .put(fingerprint)
+                .putInt(rows)
+                .putInt(columns)
+                .putDouble(bettingAmount)
+                .putInt(winCombinationCount)
+                .putInt(symbolNames.length)
+                .putInt(headerLength);
+        for (String symbolName : symbolNames) {
+            byte[] name = symbolName.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length).put(name);
+        }
+        return buffer.flip();
+    }
+
+    static TicketBookHeader read(FileChannel channel, Path path) throws IOException {
+        ByteBuffer fixed = readFully(channel, 0, FIXED_LENGTH, path);
+        if (fixed.getInt() != MAGIC || fixed.getShort() != FORMAT_VERSION) {
+            throw new IllegalArgumentException(INVALID_TICKET_BOOK + path);
+        }
+        int idWidth = fixed.getShort();
+        long ticketCount = fixed.getLong();
+        byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+        fixed.position(FINGERPRINT_OFFSET);
+        fixed.get(fingerprint);
+        int rows = fixed.getInt();
+        int columns = fixed.getInt();
+        double bettingAmount = fixed.getDouble();
+        int winCombinationCount = fixed.getInt();
+        int symbolCount = fixed.getInt();
+        int headerLength = fixed.getInt();
+        if ((idWidth != Byte.BYTES && idWidth != Short.BYTES) || ticketCount < 0 || symbolCount < 0 || headerLength < FIXED_LENGTH) {
+            throw new IllegalArgumentException(INVALID_TICKET_BOOK + path);
+        }
+
+        ByteBuffer dictionary = readFully(channel, FIXED_LENGTH, headerLength - FIXED_LENGTH, path);
+        String[] symbolNames = new String[symbolCount];
+        for (int id = 0; id < symbolCount; id++) {
+            byte[] name = new byte[dictionary.getShort()];
+            dictionary.get(name);
+            symbolNames[id] = new String(name, StandardCharsets.UTF_8);
+        }
+        return new TicketBookHeader(idWidth, fingerprint, rows, columns, bettingAmount, winCombinationCount,
+                symbolNames, headerLength, ticketCount);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalArgumentException(INVALID_TICKET_BOOK + path);
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,165 @@
+package com.game.book;
+
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.model.GameResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.game.errors.TicketBookErrors.CONFIG_MISMATCH;
+import static com.game.errors.TicketBookErrors.TICKET_OUT_OF_RANGE;
+import static com.game.errors.TicketBookErrors.TRUNCATED_TICKET_BOOK;
+
+/**
+ * Random access to a ticket book through read-only memory mappings, so books far larger than the heap can be
+ * read and re-verified in place. Records are split across mappings of at most 2 GB, each holding whole records.
+ * Reads use absolute positions only and are safe from any number of threads.
+ */
+public final class TicketBookReader implements Closeable {
+    private final CompiledGame game;
+    private final TicketBookHeader header;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long recordsPerSegment;
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+
+    private TicketBookReader(CompiledGame game, TicketBookHeader header, FileChannel channel, long recordsPerSegment) throws IOException {
+        this.game = game;
+        this.header = header;
+        this.channel = channel;
+        this.recordsPerSegment = recordsPerSegment;
+
+        int segmentCount = (int) ((header.ticketCount + recordsPerSegment - 1) / recordsPerSegment);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            long firstRecord = segment * recordsPerSegment;
+            long records = Math.min(recordsPerSegment, header.ticketCount - firstRecord);
+            segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    header.headerLength + firstRecord * header.recordSize, records * header.recordSize);
+        }
+    }
+
+    public static TicketBookReader open(Path path, CompiledGame game) throws IOException {
+        return open(path, game, Integer.MAX_VALUE);
+    }
+
+    static TicketBookReader open(Path path, CompiledGame game, int maxSegmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            TicketBookHeader header = TicketBookHeader.read(channel, path);
+            if (!Arrays.equals(header.fingerprint, game.getFingerprint())) {
+                throw new IllegalArgumentException(CONFIG_MISMATCH);
+            }
+            if (channel.size() < header.headerLength + header.ticketCount * header.recordSize) {
+                throw new IllegalArgumentException(TRUNCATED_TICKET_BOOK + path);
+            }
+            return new TicketBookReader(game, header, channel, Math.max(1, maxSegmentBytes / header.recordSize));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return header.ticketCount;
+    }
+
+    public double getBettingAmount() {
+        return header.bettingAmount;
+    }
+
+    public CompiledGame getGame() {
+        return game;
+    }
+
+    public void readCells(long ticket, int[] cells) {
+        MappedByteBuffer segment = segmentOf(ticket);
+        int offset = offsetOf(ticket);
+        for (int cell = 0; cell < header.cellCount; cell++) {
+            cells[cell] = header.idWidth == Byte.BYTES
+                    ? segment.get(offset + cell)
+                    : segment.getShort(offset + cell * Short.BYTES);
+        }
+    }
+
+    public double reward(long ticket) {
+        return segmentOf(ticket).getDouble(offsetOf(ticket) + header.cellCount * header.idWidth);
+    }
+
+    public boolean hasCombination(long ticket, int combinationIndex) {
+        int maskOffset = offsetOf(ticket) + header.cellCount * header.idWidth + Double.BYTES;
+        return (segmentOf(ticket).get(maskOffset + combinationIndex / Byte.SIZE) & 1 << (combinationIndex % Byte.SIZE)) != 0;
+    }
+
+    public GameResult toGameResult(long ticket) {
+        int[] cells = new int[header.cellCount];
+        readCells(ticket, cells);
+        return calculator.calculateWinningsCombination(cells, header.bettingAmount, game);
+    }
+
+    /**
+     * Re-scores the ticket with {@code context} and compares the reward and applied combinations with the record.
+     */
+    public boolean verify(long ticket, int[] cells, ScoringContext context) {
+        readCells(ticket, cells);
+        double reward = calculator.calculateReward(cells, header.bettingAmount, game, context);
+        if (Double.compare(reward, reward(ticket)) != 0) {
+            return false;
+        }
+        for (int combination = 0; combination < header.winCombinationCount; combination++) {
+            if (hasCombination(ticket, combination) != isApplied(context, combination)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-scores every ticket in the book.
+     *
+     * @return the number of tickets whose stored result no longer matches
+     */
+    public long verifyAll() {
+        int[] cells = new int[header.cellCount];
+        ScoringContext context = new ScoringContext(game);
+        long mismatches = 0;
+        for (long ticket = 0; ticket < header.ticketCount; ticket++) {
+            if (!verify(ticket, cells, context)) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static boolean isApplied(ScoringContext context, int combination) {
+        for (int i = 0; i < context.getAppliedCount(); i++) {
+            if (context.appliedCombinationAt(i) == combination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MappedByteBuffer segmentOf(long ticket) {
+        if (ticket < 0 || ticket >= header.ticketCount) {
+            throw new IndexOutOfBoundsException(TICKET_OUT_OF_RANGE + ticket);
+        }
+        return segments[(int) (ticket / recordsPerSegment)];
+    }
+
+    private int offsetOf(long ticket) {
+        return (int) (ticket % recordsPerSegment) * header.recordSize;
+    }
+}
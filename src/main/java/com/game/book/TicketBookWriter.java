@@ -0,0 +1,121 @@
+package com.game.book;
+
+import com.game.batch.TicketBatch;
+import com.game.calculator.ScoringContext;
+import com.game.engine.CompiledGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.game.errors.BatchErrors.BATCH_GAME_MISMATCH;
+import static com.game.errors.GameConfigErrors.CONTEXT_GAME_MISMATCH;
+import static com.game.errors.TicketBookErrors.BET_MISMATCH;
+
+/**
+ * Appends fixed-width ticket records to a ticket book through a direct buffer and a {@link FileChannel}.
+ * The ticket count in the header is written on {@link #close()}, so an unclosed book reads as empty.
+ */
+public final class TicketBookWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final CompiledGame game;
+    private final TicketBookHeader header;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    public TicketBookWriter(Path path, CompiledGame game, double bettingAmount) throws IOException {
+        this.game = game;
+        this.header = TicketBookHeader.of(game, bettingAmount);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, header.recordSize));
+        writeFully(header.encode(), 0);
+        channel.position(header.headerLength);
+    }
+
+    public long getTicketCount() {
+        return header.ticketCount;
+    }
+
+    /**
+     * Appends a ticket scored by {@code WinningCombinationCalculator#calculateReward} at the book's betting amount.
+     */
+    public void write(int[] cells, double reward, ScoringContext context) throws IOException {
+        if (context.getGame() != game) {
+            throw new IllegalArgumentException(CONTEXT_GAME_MISMATCH);
+        }
+        ensureCapacity();
+        putCells(cells);
+        buffer.putDouble(reward);
+        for (int i = 0; i < header.maskBytes; i++) {
+            buffer.put((byte) (context.combinationMaskWord(i / Long.BYTES) >>> (i % Long.BYTES * Byte.SIZE)));
+        }
+        header.ticketCount++;
+    }
+
+    public void write(TicketBatch batch) throws IOException {
+        if (batch.getGame() != game) {
+            throw new IllegalArgumentException(BATCH_GAME_MISMATCH);
+        }
+        int[] cells = new int[header.cellCount];
+        for (int ticket = 0; ticket < batch.size(); ticket++) {
+            if (batch.bet(ticket) != header.bettingAmount) {
+                throw new IllegalArgumentException(BET_MISMATCH + batch.bet(ticket));
+            }
+            ensureCapacity();
+            batch.copyCells(ticket, cells);
+            putCells(cells);
+            buffer.putDouble(batch.reward(ticket));
+            for (int i = 0; i < header.maskBytes; i++) {
+                long word = batch.combinationMask(ticket, i / Long.BYTES);
+                buffer.put((byte) (word >>> (i % Long.BYTES * Byte.SIZE)));
+            }
+            header.ticketCount++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).putLong(header.ticketCount).flip();
+            writeFully(count, TicketBookHeader.TICKET_COUNT_OFFSET);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putCells(int[] cells) {
+        for (int cell = 0; cell < header.cellCount; cell++) {
+            int symbolId = cells[cell];
+            if (header.idWidth == Byte.BYTES) {
+                buffer.put((byte) symbolId);
+            } else {
+                buffer.putShort((short) symbolId);
+            }
+        }
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (buffer.remaining() < header.recordSize) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+}
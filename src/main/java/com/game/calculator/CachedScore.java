@@ -0,0 +1,89 @@
+package com.game.calculator;
+
+import com.game.engine.CompiledGame;
+
+/**
+ * Bet-independent outcome of scoring one grid: the per-symbol {@code same * linear} terms, the bonus symbols
+ * applied per occurrence and the applied combinations. Replaying it for any bet performs the same floating-point
+ * operations in the same order as {@link WinningCombinationCalculator}, so the reward is bit-for-bit identical.
+ */
+final class CachedScore {
+    private final boolean won;
+    private final double[] terms;
+    private final int[] bonusOccurrences;
+    private final int[] appliedSymbols;
+    private final int[] appliedCombinations;
+    private final int appliedBonusSymbol;
+
+    private CachedScore(boolean won, double[] terms, int[] bonusOccurrences, int[] appliedSymbols,
+                        int[] appliedCombinations, int appliedBonusSymbol) {
+        this.won = won;
+        this.terms = terms;
+        this.bonusOccurrences = bonusOccurrences;
+        this.appliedSymbols = appliedSymbols;
+        this.appliedCombinations = appliedCombinations;
+        this.appliedBonusSymbol = appliedBonusSymbol;
+    }
+
+    static CachedScore of(ScoringContext context, CompiledGame game) {
+        int termCount = 0;
+        int bonusCount = 0;
+        for (int symbolId = 0; symbolId < game.getSymbolCount(); symbolId++) {
+            if (context.sameSymbolScores[symbolId] != 0.0) {
+                termCount++;
+            }
+            if (game.isBonus(symbolId)) {
+                bonusCount += context.symbolCounters[symbolId];
+            }
+        }
+
+        double[] terms = new double[termCount];
+        int[] bonusOccurrences = new int[bonusCount];
+        termCount = 0;
+        bonusCount = 0;
+        for (int symbolId = 0; symbolId < game.getSymbolCount(); symbolId++) {
+            if (context.sameSymbolScores[symbolId] != 0.0) {
+                terms[termCount++] = context.sameSymbolScores[symbolId] * context.linearSymbolScores[symbolId];
+            }
+            if (game.isBonus(symbolId)) {
+                for (int i = 0; i < context.symbolCounters[symbolId]; i++) {
+                    bonusOccurrences[bonusCount++] = symbolId;
+                }
+            }
+        }
+
+        int[] appliedSymbols = new int[context.getAppliedCount()];
+        int[] appliedCombinations = new int[context.getAppliedCount()];
+        for (int i = 0; i < appliedSymbols.length; i++) {
+            appliedSymbols[i] = context.appliedSymbolAt(i);
+            appliedCombinations[i] = context.appliedCombinationAt(i);
+        }
+        return new CachedScore(appliedSymbols.length > 0, terms, bonusOccurrences, appliedSymbols,
+                appliedCombinations, context.getAppliedBonusSymbol());
+    }
+
+    double restore(int[] cells, double bettingAmount, CompiledGame game, ScoringContext context) {
+        context.reset();
+        for (int symbolId : cells) {
+            if (symbolId != CompiledGame.UNKNOWN_SYMBOL_ID) {
+                context.symbolCounters[symbolId]++;
+            }
+        }
+        for (int i = 0; i < appliedSymbols.length; i++) {
+            context.apply(appliedSymbols[i], appliedCombinations[i]);
+        }
+        context.appliedBonusSymbol = appliedBonusSymbol;
+
+        if (!won) {
+            return 0.0;
+        }
+        double totalReward = 0.0;
+        for (double term : terms) {
+            totalReward += term * bettingAmount;
+        }
+        for (int bonusSymbol : bonusOccurrences) {
+            totalReward = game.applyBonus(bonusSymbol, totalReward);
+        }
+        return totalReward;
+    }
+}
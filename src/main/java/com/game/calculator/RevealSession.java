@@ -0,0 +1,230 @@
+package com.game.calculator;
+
+import com.game.engine.CompiledGame;
+import com.game.engine.PatternMasks;
+
+import static com.game.errors.RevealErrors.CELL_OUT_OF_RANGE;
+import static com.game.errors.RevealErrors.INVALID_TICKET_SIZE;
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+
+/**
+ * Scratch-reveal state for one ticket. Revealing a cell updates the symbol counters and only the linear
+ * patterns covering that cell, so each reveal costs O(affected patterns) instead of a full rescore.
+ * <p>
+ * {@link #guaranteedReward()} scores the revealed cells alone, exactly as rescoring the grid with the hidden
+ * cells blanked out would. {@link #maxReachableReward()} is an upper bound on what the ticket can still pay
+ * given what is revealed. It assumes every hidden cell could take any symbol and, as the generator guarantees,
+ * that a ticket holds at most one bonus symbol. Once every cell is revealed both equal the ticket's reward.
+ */
+public final class RevealSession {
+    private static final int BROKEN = -2;
+
+    private final CompiledGame game;
+    private final PatternMasks patternMasks;
+    private final int[] cells;
+    private final double bettingAmount;
+    private final int linearCount;
+    private final boolean[] revealed;
+    private final int[] symbolCounters;
+    private final int[] patternRevealedCells;
+    private final int[] patternSymbols;
+    // Per (symbol, linear combination): patterns fully revealed as the symbol, and patterns partly revealed with only it.
+    private final int[] completePatterns;
+    private final int[] alivePatterns;
+    // Per linear combination: non-empty patterns with no revealed cell yet.
+    private final int[] openPatterns;
+    private int hiddenCells;
+    private int revealedBonusSymbols;
+
+    public RevealSession(CompiledGame game, int[] cells, double bettingAmount) {
+        if (cells.length != game.getCellCount()) {
+            throw new IllegalArgumentException(INVALID_TICKET_SIZE);
+        }
+        if (bettingAmount <= 0) {
+            throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+        }
+        this.game = game;
+        this.patternMasks = game.getPatternMasks();
+        this.cells = cells.clone();
+        this.bettingAmount = bettingAmount;
+        this.linearCount = game.getLinearCombinations().size();
+        this.revealed = new boolean[cells.length];
+        this.symbolCounters = new int[game.getSymbolCount()];
+        this.patternRevealedCells = new int[patternMasks.getPatternCount()];
+        this.patternSymbols = new int[patternMasks.getPatternCount()];
+        this.completePatterns = new int[game.getSymbolCount() * linearCount];
+        this.alivePatterns = new int[game.getSymbolCount() * linearCount];
+        this.openPatterns = new int[linearCount];
+        this.hiddenCells = cells.length;
+
+        for (int pattern = 0; pattern < patternSymbols.length; pattern++) {
+            patternSymbols[pattern] = CompiledGame.UNKNOWN_SYMBOL_ID;
+            if (patternMasks.distinctCellCountOf(pattern) == 0) {
+                patternSymbols[pattern] = BROKEN;
+            } else {
+                openPatterns[patternMasks.linearIndexOf(pattern)]++;
+            }
+        }
+    }
+
+    /**
+     * Reveals {@code cell}; revealing it again has no effect.
+     *
+     * @return the symbol id under the cell
+     */
+    public int reveal(int cell) {
+        if (cell < 0 || cell >= cells.length) {
+            throw new IndexOutOfBoundsException(CELL_OUT_OF_RANGE + cell);
+        }
+        int symbol = cells[cell];
+        if (revealed[cell]) {
+            return symbol;
+        }
+        revealed[cell] = true;
+        hiddenCells--;
+        boolean linearSymbol = symbol != CompiledGame.UNKNOWN_SYMBOL_ID && !game.isBonus(symbol);
+        if (symbol != CompiledGame.UNKNOWN_SYMBOL_ID) {
+            symbolCounters[symbol]++;
+            if (game.isBonus(symbol)) {
+                revealedBonusSymbols++;
+            }
+        }
+
+        for (int pattern : patternMasks.patternsAt(cell)) {
+            int linearIndex = patternMasks.linearIndexOf(pattern);
+            int patternSymbol = patternSymbols[pattern];
+            boolean complete = ++patternRevealedCells[pattern] == patternMasks.distinctCellCountOf(pattern);
+            if (patternSymbol == BROKEN) {
+                continue;
+            }
+            if (patternSymbol == CompiledGame.UNKNOWN_SYMBOL_ID) {
+                openPatterns[linearIndex]--;
+                if (linearSymbol) {
+                    patternSymbols[pattern] = symbol;
+                    (complete ? completePatterns : alivePatterns)[symbol * linearCount + linearIndex]++;
+                } else {
+                    patternSymbols[pattern] = BROKEN;
+                }
+            } else {
+                alivePatterns[patternSymbol * linearCount + linearIndex]--;
+                if (symbol == patternSymbol) {
+                    (complete ? completePatterns : alivePatterns)[symbol * linearCount + linearIndex]++;
+                } else {
+                    patternSymbols[pattern] = BROKEN;
+                }
+            }
+        }
+        return symbol;
+    }
+
+    public void revealAll() {
+        for (int cell = 0; cell < cells.length; cell++) {
+            reveal(cell);
+        }
+    }
+
+    public boolean isRevealed(int cell) {
+        return revealed[cell];
+    }
+
+    public int getHiddenCellCount() {
+        return hiddenCells;
+    }
+
+    public boolean isComplete() {
+        return hiddenCells == 0;
+    }
+
+    public CompiledGame getGame() {
+        return game;
+    }
+
+    public double guaranteedReward() {
+        boolean won = false;
+        double totalReward = 0.0;
+        for (int symbol = 0; symbol < symbolCounters.length; symbol++) {
+            int tier = tierOf(symbolCounters[symbol]);
+            double linearScore = 1.0;
+            for (int linearIndex = 0; linearIndex < linearCount; linearIndex++) {
+                int complete = completePatterns[symbol * linearCount + linearIndex];
+                double multiplier = game.getLinearCombinations().get(linearIndex).getRewardMultiplier();
+                for (int i = 0; i < complete; i++) {
+                    linearScore *= multiplier;
+                }
+                won |= complete > 0;
+            }
+            if (tier >= 0) {
+                won = true;
+                double sameScore = game.sameSymbolMultiplierAt(tier) * game.rewardMultiplier(symbol);
+                if (sameScore != 0.0) {
+                    totalReward += sameScore * linearScore * bettingAmount;
+                }
+            }
+        }
+        return won ? applyRevealedBonuses(totalReward) : 0.0;
+    }
+
+    public double maxReachableReward() {
+        if (isComplete()) {
+            return guaranteedReward();
+        }
+        boolean bonusStillPossible = revealedBonusSymbols == 0;
+        boolean canWin = false;
+        double totalReward = 0.0;
+        for (int symbol = 0; symbol < symbolCounters.length; symbol++) {
+            int extraCells = game.isBonus(symbol) ? (bonusStillPossible ? 1 : 0) : hiddenCells;
+            int fromTier = Math.max(0, tierOf(symbolCounters[symbol]));
+            int toTier = tierOf(symbolCounters[symbol] + extraCells);
+            double linearScore = 1.0;
+            for (int linearIndex = 0; linearIndex < linearCount; linearIndex++) {
+                int index = symbol * linearCount + linearIndex;
+                double multiplier = game.getLinearCombinations().get(linearIndex).getRewardMultiplier();
+                int reachable = completePatterns[index];
+                if (multiplier > 1.0) {
+                    reachable += alivePatterns[index] + (game.isBonus(symbol) ? 0 : openPatterns[linearIndex]);
+                }
+                for (int i = 0; i < reachable; i++) {
+                    linearScore *= multiplier;
+                }
+                canWin |= completePatterns[index] + alivePatterns[index] > 0 || (!game.isBonus(symbol) && openPatterns[linearIndex] > 0);
+            }
+            if (toTier >= 0) {
+                canWin = true;
+                double bestMultiplier = Double.NEGATIVE_INFINITY;
+                for (int tier = fromTier; tier <= toTier; tier++) {
+                    bestMultiplier = Math.max(bestMultiplier, game.sameSymbolMultiplierAt(tier));
+                }
+                totalReward += Math.max(0.0, bestMultiplier * game.rewardMultiplier(symbol) * linearScore * bettingAmount);
+            }
+        }
+        if (!canWin) {
+            return 0.0;
+        }
+        totalReward = applyRevealedBonuses(totalReward);
+        if (bonusStillPossible) {
+            double withoutBonus = totalReward;
+            for (int symbol = 0; symbol < symbolCounters.length; symbol++) {
+                if (game.isBonus(symbol)) {
+                    totalReward = Math.max(totalReward, game.applyBonus(symbol, withoutBonus));
+                }
+            }
+        }
+        return totalReward;
+    }
+
+    private double applyRevealedBonuses(double reward) {
+        for (int symbol = 0; symbol < symbolCounters.length; symbol++) {
+            if (game.isBonus(symbol)) {
+                for (int i = 0; i < symbolCounters[symbol]; i++) {
+                    reward = game.applyBonus(symbol, reward);
+                }
+            }
+        }
+        return reward;
+    }
+
+    // Highest same-symbol combination reached by the count, or -1.
+    private int tierOf(int count) {
+        return game.sameSymbolCombinationFor(count);
+    }
+}
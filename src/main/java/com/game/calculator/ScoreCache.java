@@ -0,0 +1,285 @@
+package com.game.calculator;
+
+import com.game.engine.CompiledGame;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.game.errors.CacheErrors.INVALID_CACHE_CAPACITY;
+
+/**
+ * Bounded, thread-safe cache of scoring outcomes keyed by the encoded grid and the config version. Entries are
+ * bet-independent, so one entry serves every betting amount. Grids are packed into a single {@code long}
+ * ({@code id + 1} in {@link #bitsPerCell} bits per cell); games whose grids do not fit are scored uncached.
+ * <p>
+ * The cache is split into segments, each an open-addressing table of primitive keys threaded on an LRU list and
+ * guarded by its own lock. An entry also remembers the compiled game it was scored against, so two games that
+ * share a version number never read each other's results and a reloaded config simply misses.
+ */
+public final class ScoreCache {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int capacity;
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ScoreCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CACHE_CAPACITY);
+        }
+        this.capacity = capacity;
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY)));
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * @return bits used per cell when packing a grid of {@code game} into a key
+     */
+    public static int bitsPerCell(CompiledGame game) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(game.getSymbolCount());
+    }
+
+    public static boolean supports(CompiledGame game) {
+        return (long) bitsPerCell(game) * game.getCellCount() <= Long.SIZE;
+    }
+
+    boolean supports(int[] cells, CompiledGame game) {
+        return cells.length == game.getCellCount() && supports(game);
+    }
+
+    static long encode(int[] cells, CompiledGame game) {
+        int bits = bitsPerCell(game);
+        long key = 0;
+        for (int symbolId : cells) {
+            key = key << bits | (symbolId + 1);
+        }
+        return key;
+    }
+
+    CachedScore get(long key, CompiledGame game) {
+        int hash = hash(key, game.getVersion());
+        CachedScore score = segmentFor(hash).get(key, game, hash);
+        (score == null ? misses : hits).increment();
+        return score;
+    }
+
+    void put(long key, CompiledGame game, CachedScore score) {
+        int hash = hash(key, game.getVersion());
+        if (segmentFor(hash).put(key, game, score, hash)) {
+            evictions.increment();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0.0 : hitCount / (double) lookups;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static int hash(long key, long version) {
+        long h = key ^ version * GOLDEN_GAMMA;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    private static final class Segment {
+        private static final int EMPTY = -1;
+
+        private final int capacity;
+        // Open-addressing index: slot number per bucket, EMPTY when free.
+        private final int[] table;
+        private final int mask;
+        private final long[] keys;
+        private final int[] hashes;
+        private final CompiledGame[] games;
+        private final CachedScore[] scores;
+        // LRU list over slots, most recently used at head.
+        private final int[] previous;
+        private final int[] next;
+        private int head = EMPTY;
+        private int tail = EMPTY;
+        private int size;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+            this.table = new int[tableSize];
+            this.mask = tableSize - 1;
+            this.keys = new long[capacity];
+            this.hashes = new int[capacity];
+            this.games = new CompiledGame[capacity];
+            this.scores = new CachedScore[capacity];
+            this.previous = new int[capacity];
+            this.next = new int[capacity];
+            Arrays.fill(table, EMPTY);
+        }
+
+        synchronized CachedScore get(long key, CompiledGame game, int hash) {
+            int bucket = find(key, game.getVersion(), hash);
+            if (bucket == EMPTY) {
+                return null;
+            }
+            int slot = table[bucket];
+            if (games[slot] != game) {
+                return null;
+            }
+            moveToHead(slot);
+            return scores[slot];
+        }
+
+        // Returns whether an entry had to be evicted to make room.
+        synchronized boolean put(long key, CompiledGame game, CachedScore score, int hash) {
+            int bucket = find(key, game.getVersion(), hash);
+            if (bucket != EMPTY) {
+                int slot = table[bucket];
+                games[slot] = game;
+                scores[slot] = score;
+                moveToHead(slot);
+                return false;
+            }
+
+            boolean evicted = false;
+            int slot;
+            if (size < capacity) {
+                slot = size++;
+            } else {
+                slot = tail;
+                unlink(slot);
+                delete(bucketOf(slot));
+                evicted = true;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            games[slot] = game;
+            scores[slot] = score;
+            int free = hash & mask;
+            while (table[free] != EMPTY) {
+                free = (free + 1) & mask;
+            }
+            table[free] = slot;
+            linkHead(slot);
+            return evicted;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(table, EMPTY);
+            Arrays.fill(games, null);
+            Arrays.fill(scores, null);
+            head = EMPTY;
+            tail = EMPTY;
+            size = 0;
+        }
+
+        private int find(long key, long version, int hash) {
+            for (int bucket = hash & mask; table[bucket] != EMPTY; bucket = (bucket + 1) & mask) {
+                int slot = table[bucket];
+                if (keys[slot] == key && hashes[slot] == hash && games[slot].getVersion() == version) {
+                    return bucket;
+                }
+            }
+            return EMPTY;
+        }
+
+        private int bucketOf(int slot) {
+            int bucket = hashes[slot] & mask;
+            while (table[bucket] != slot) {
+                bucket = (bucket + 1) & mask;
+            }
+            return bucket;
+        }
+
+        // Backward-shift deletion keeps every probe chain unbroken without tombstones.
+        private void delete(int bucket) {
+            int hole = bucket;
+            for (int i = (bucket + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+                int home = hashes[table[i]] & mask;
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    table[hole] = table[i];
+                    hole = i;
+                }
+            }
+            table[hole] = EMPTY;
+        }
+
+        private void moveToHead(int slot) {
+            if (slot != head) {
+                unlink(slot);
+                linkHead(slot);
+            }
+        }
+
+        private void linkHead(int slot) {
+            previous[slot] = EMPTY;
+            next[slot] = head;
+            if (head != EMPTY) {
+                previous[head] = slot;
+            }
+            head = slot;
+            if (tail == EMPTY) {
+                tail = slot;
+            }
+        }
+
+        private void unlink(int slot) {
+            if (previous[slot] != EMPTY) {
+                next[previous[slot]] = next[slot];
+            } else {
+                head = next[slot];
+            }
+            if (next[slot] != EMPTY) {
+                previous[next[slot]] = previous[slot];
+            } else {
+                tail = previous[slot];
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.game.calculator;
+
+import com.game.engine.CompiledGame;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-thread scratch state for {@link WinningCombinationCalculator#calculateReward}.
+ * Holds symbol counters, per-symbol bitboards of the grid, per-symbol scores and the (symbol, combination)
+ * pairs applied to the last ticket.
+ * <p>
+ * It is also the result holder for that ticket: its reward and the applied combinations as bitsets, overall and
+ * per symbol, indexed like {@link CompiledGame#winCombinationName(int)}. Everything is sized once for the game
+ * and cleared in place, so a thread that keeps its context scores without allocating.
+ */
+public final class ScoringContext {
+    private final CompiledGame game;
+    final int[] symbolCounters;
+    final double[] sameSymbolScores;
+    final double[] linearSymbolScores;
+    final long[] symbolBoards;
+    boolean boardsFilled;
+    private final int[] appliedSymbols;
+    private final int[] appliedCombinations;
+    private int appliedCount;
+    private final int combinationWords;
+    private final long[] combinationMask;
+    private final long[] symbolCombinationMasks;
+    int appliedBonusSymbol;
+    double totalReward;
+
+    public ScoringContext(CompiledGame game) {
+        this.game = game;
+        int symbolCount = game.getSymbolCount();
+        this.symbolCounters = new int[symbolCount];
+        this.sameSymbolScores = new double[symbolCount];
+        this.linearSymbolScores = new double[symbolCount];
+        this.symbolBoards = new long[symbolCount * game.getPatternMasks().getWordCount()];
+        this.boardsFilled = true;
+        int capacity = symbolCount + game.getPatternCount();
+        this.appliedSymbols = new int[capacity];
+        this.appliedCombinations = new int[capacity];
+        this.combinationWords = Math.max(1, (game.getWinCombinationCount() + Long.SIZE - 1) / Long.SIZE);
+        this.combinationMask = new long[combinationWords];
+        this.symbolCombinationMasks = new long[symbolCount * combinationWords];
+        reset();
+    }
+
+    void reset() {
+        Arrays.fill(symbolCounters, 0);
+        Arrays.fill(sameSymbolScores, 0.0);
+        Arrays.fill(linearSymbolScores, 1.0);
+        if (boardsFilled) {
+            Arrays.fill(symbolBoards, 0L);
+            boardsFilled = false;
+        }
+        Arrays.fill(combinationMask, 0L);
+        Arrays.fill(symbolCombinationMasks, 0L);
+        appliedCount = 0;
+        appliedBonusSymbol = CompiledGame.UNKNOWN_SYMBOL_ID;
+        totalReward = 0.0;
+    }
+
+    void apply(int symbolId, int combinationIndex) {
+        appliedSymbols[appliedCount] = symbolId;
+        appliedCombinations[appliedCount] = combinationIndex;
+        appliedCount++;
+        long bit = 1L << combinationIndex;
+        combinationMask[combinationIndex >>> 6] |= bit;
+        symbolCombinationMasks[symbolId * combinationWords + (combinationIndex >>> 6)] |= bit;
+    }
+
+    public CompiledGame getGame() {
+        return game;
+    }
+
+    public int symbolCount(int symbolId) {
+        return symbolCounters[symbolId];
+    }
+
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    public int appliedSymbolAt(int index) {
+        return appliedSymbols[index];
+    }
+
+    public int appliedCombinationAt(int index) {
+        return appliedCombinations[index];
+    }
+
+    /**
+     * @return whether any win combination applied to the last ticket, which is what counts as a hit; a ticket can
+     * hit and still pay nothing, e.g. a line for a symbol without a same-symbol win
+     */
+    public boolean isWinning() {
+        return appliedCount > 0;
+    }
+
+    public int getAppliedBonusSymbol() {
+        return appliedBonusSymbol;
+    }
+
+    /**
+     * @return the reward returned by the last {@link WinningCombinationCalculator#calculateReward} call
+     */
+    public double getTotalReward() {
+        return totalReward;
+    }
+
+    public boolean isApplied(int combinationIndex) {
+        return (combinationMask[combinationIndex >>> 6] & 1L << combinationIndex) != 0;
+    }
+
+    public boolean isApplied(int symbolId, int combinationIndex) {
+        return (symbolCombinationMasks[symbolId * combinationWords + (combinationIndex >>> 6)] & 1L << combinationIndex) != 0;
+    }
+
+    public int getCombinationMaskWords() {
+        return combinationWords;
+    }
+
+    /**
+     * @return bits {@code 64 * word} to {@code 64 * word + 63} of the applied-combination bitset
+     */
+    public long combinationMaskWord(int word) {
+        return combinationMask[word];
+    }
+}
@@ -0,0 +1,53 @@
+package com.game.calculator;
+
+import com.game.engine.CompiledGame;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.game.errors.CacheErrors.INVALID_POOL_SIZE;
+
+/**
+ * Bounded, lock-free pool of {@link ScoringContext}s for callers that cannot keep one per thread, such as
+ * request handlers on virtual threads. Acquiring and releasing swap a slot with one atomic operation and never
+ * allocate; a context compiled for another game (e.g. before a config reload) is dropped rather than reused, and
+ * a full pool simply lets released contexts go.
+ */
+public final class ScoringContextPool {
+    private final AtomicReferenceArray<ScoringContext> slots;
+
+    public ScoringContextPool(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(INVALID_POOL_SIZE);
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * @return a pooled context for {@code game}, or a new one if none is free
+     */
+    public ScoringContext acquire(CompiledGame game) {
+        int size = slots.length();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % size;
+            if (slots.get(slot) != null) {
+                ScoringContext context = slots.getAndSet(slot, null);
+                if (context != null && context.getGame() == game) {
+                    return context;
+                }
+            }
+        }
+        return new ScoringContext(game);
+    }
+
+    public void release(ScoringContext context) {
+        int size = slots.length();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < size; i++) {
+            if (slots.compareAndSet((start + i) % size, null, context)) {
+                return;
+            }
+        }
+    }
+}
@@ -1,168 +1,213 @@
 package com.game.calculator;
 
 import com.game.config.GameConfig;
-import com.game.enums.LinearSymbols;
+import com.game.engine.CompiledGame;
+import com.game.engine.LinearCombination;
+import com.game.engine.PatternMasks;
 import com.game.model.GameResult;
-import com.game.model.Symbol;
 
 import java.util.*;
 
+import static com.game.errors.GameConfigErrors.CONTEXT_GAME_MISMATCH;
+
 public class WinningCombinationCalculator {
+    private final ScoreCache cache;
+
+    public WinningCombinationCalculator() {
+        this(null);
+    }
+
+    /**
+     * Consults {@code cache} before scoring a grid and records the outcome after a miss; a {@code null} cache scores
+     * every grid.
+     */
+    public WinningCombinationCalculator(ScoreCache cache) {
+        this.cache = cache;
+    }
 
+    /**
+     * Scores against the raw config, which is compiled for scoring on every call; its probabilities are ignored.
+     * Callers scoring more than one grid should compile the game once and use
+     * {@link #calculateWinningsCombination(String[][], double, CompiledGame)}.
+     */
     public GameResult calculateWinningsCombination(String[][] matrix, double bettingAmount, GameConfig config) {
-        double totalReward = 0.0;
-        Map<String, List<String>> appliedCombinations = new HashMap<>();
-        Optional<String> appliedBonusSymbol;
+        return calculateWinningsCombination(matrix, bettingAmount, CompiledGame.compileForScoring(config));
+    }
+
+    public GameResult calculateWinningsCombination(String[][] matrix, double bettingAmount, CompiledGame game) {
+        GameResult gameResult = calculateWinningsCombination(game.encode(matrix), bettingAmount, game);
+        gameResult.setMatrix(matrix);
+        return gameResult;
+    }
+
+    public GameResult calculateWinningsCombination(int[] cells, double bettingAmount, CompiledGame game) {
+        ScoringContext context = new ScoringContext(game);
+        double totalReward = calculateReward(cells, bettingAmount, game, context);
+        return createGameResult(cells, game, totalReward, context);
+    }
+
+    public double calculateReward(int[] cells, double bettingAmount, CompiledGame game, ScoringContext context) {
+        if (context.getGame() != game) {
+            throw new IllegalArgumentException(CONTEXT_GAME_MISMATCH);
+        }
+        context.totalReward = cache == null || !cache.supports(cells, game)
+                ? score(cells, bettingAmount, game, context)
+                : scoreThroughCache(cells, bettingAmount, game, context);
+        return context.totalReward;
+    }
+
+    private double scoreThroughCache(int[] cells, double bettingAmount, CompiledGame game, ScoringContext context) {
+        long key = ScoreCache.encode(cells, game);
+        CachedScore cached = cache.get(key, game);
+        if (cached != null) {
+            return cached.restore(cells, bettingAmount, game, context);
+        }
+        double totalReward = score(cells, bettingAmount, game, context);
+        cache.put(key, game, CachedScore.of(context, game));
+        return totalReward;
+    }
 
-        Map<Integer, Double> sameSymbolsWinMap = extractSameSymbolsWinMap(config);
-        Map<String, Map<Double, List<List<List<String>>>>> linearSymbolsWinMap = extractLinearSymbolsWinMap(config);
+    private double score(int[] cells, double bettingAmount, CompiledGame game, ScoringContext context) {
+        context.reset();
+        double totalReward = 0.0;
 
-        Map<String, Integer> symbolCounters = countSymbols(matrix);
-        Map<String, Integer> bonusSymbolCounters = countBonusSymbols(matrix, config);
+        countSymbols(cells, context);
 
         // Score Calculations
-        Map<String, Double> sameSymbolScoreMap = calculateSameSymbolScores(symbolCounters, sameSymbolsWinMap, config, appliedCombinations);
-        Map<String, Double> linearSymbolScoreMap = calculateLinearSymbolScores(matrix, linearSymbolsWinMap, bonusSymbolCounters, appliedCombinations);
+        boolean sameSymbolsWon = calculateSameSymbolScores(game, context);
+        // Patterns are only scanned when some symbol occurs often enough to complete one.
+        boolean linearSymbolsWon = fillSymbolBoards(cells, game, context) && calculateLinearSymbolScores(cells, game, context);
+
+        if (sameSymbolsWon || linearSymbolsWon) {
+            totalReward = sameSymbolsWon ? calculateTotalReward(context, bettingAmount) : 0.0;
+            totalReward = applyBonusesToScore(game, context.symbolCounters, totalReward);
+        }
 
-        if (!sameSymbolScoreMap.isEmpty() || !linearSymbolScoreMap.isEmpty()) {
-            totalReward = calculateTotalReward(sameSymbolScoreMap, linearSymbolScoreMap, bettingAmount);
-            totalReward = applyBonusesToScore(config.getSymbolMap(), bonusSymbolCounters, totalReward);
+        context.appliedBonusSymbol = findAppliedBonusSymbol(context.symbolCounters, game);
+        return totalReward;
+    }
+
+    private void countSymbols(int[] cells, ScoringContext context) {
+        int[] symbolCounters = context.symbolCounters;
+        for (int symbolId : cells) {
+            if (symbolId != CompiledGame.UNKNOWN_SYMBOL_ID) {
+                symbolCounters[symbolId]++;
+            }
+        }
+    }
+
+    /**
+     * Builds the per-symbol boards, only for symbols that occur at least as often as the shortest pattern has
+     * cells; the boards of every other symbol stay empty, which no pattern mask can match. The loop runs word by
+     * word so the target word index and the bounds check are hoisted out of the per-cell work.
+     *
+     * @return false, without touching the boards, if no standard symbol can complete a pattern
+     */
+    private boolean fillSymbolBoards(int[] cells, CompiledGame game, ScoringContext context) {
+        int[] symbolCounters = context.symbolCounters;
+        int minCells = game.getPatternMasks().getMinDistinctCellCount();
+        boolean reachable = false;
+        for (int symbolId = 0; symbolId < symbolCounters.length && !reachable; symbolId++) {
+            reachable = symbolCounters[symbolId] >= minCells && !game.isBonus(symbolId);
+        }
+        if (!reachable) {
+            return false;
         }
 
-        appliedBonusSymbol = findAppliedBonusSymbol(bonusSymbolCounters, config);
-
-        return createGameResult(matrix, totalReward, appliedCombinations, appliedBonusSymbol);
-    }
-
-    private Map<Integer, Double> extractSameSymbolsWinMap(GameConfig config) {
-        return config.getWinCombinations().values().stream()
-                .filter(winComb -> "same_symbols".equals(winComb.getWhen()))
-                .collect(HashMap::new, (map, wc) -> map.put(wc.getCount(), wc.getRewardMultiplier()), HashMap::putAll);
-    }
-
-    private Map<String, Map<Double, List<List<List<String>>>>> extractLinearSymbolsWinMap(GameConfig config) {
-        Map<String, Map<Double, List<List<List<String>>>>> linearSymbolsWinMap = new HashMap<>();
-        config.getWinCombinations().values().stream()
-                .filter(winComb -> "linear_symbols".equals(winComb.getWhen()))
-                .forEach(winComb -> linearSymbolsWinMap
-                        .computeIfAbsent(winComb.getGroup(), k -> new HashMap<>())
-                        .computeIfAbsent(winComb.getRewardMultiplier(), k -> new ArrayList<>())
-                        .add(winComb.getCoveredAreas()));
-        return linearSymbolsWinMap;
-    }
-
-    private Map<String, Integer> countSymbols(String[][] matrix) {
-        Map<String, Integer> symbolCounters = new HashMap<>();
-        Arrays.stream(matrix).flatMap(Arrays::stream)
-                .forEach(symbol -> symbolCounters.merge(symbol, 1, Integer::sum));
-        return symbolCounters;
-    }
-
-    private Map<String, Integer> countBonusSymbols(String[][] matrix, GameConfig config) {
-        Map<String, Integer> bonusSymbolCounters = new HashMap<>();
-        Arrays.stream(matrix).flatMap(Arrays::stream)
-                .forEach(symbol -> {
-                    Symbol symbolDetails = config.getSymbolMap().get(symbol);
-                    if (symbolDetails != null && symbolDetails.isBonus()) {
-                        bonusSymbolCounters.merge(symbol, 1, Integer::sum);
-                    }
-                });
-        return bonusSymbolCounters;
-    }
-
-    private Map<String, Double> calculateSameSymbolScores(Map<String, Integer> symbolCounters,
-                                                          Map<Integer, Double> sameSymbolsWinMap,
-                                                          GameConfig config,
-                                                          Map<String, List<String>> appliedCombinations) {
-        Map<String, Double> sameSymbolScoreMap = new HashMap<>();
-        List<Integer> countWins = new ArrayList<>(sameSymbolsWinMap.keySet());
-        Collections.sort(countWins);
-
-        symbolCounters.forEach((symbol, count) -> {
-            int validCount = countWins.stream()
-                    .filter(c -> c <= count)
-                    .max(Integer::compare)
-                    .orElse(0);
-
-            if (validCount > 0) {
-                double multiplier = sameSymbolsWinMap.get(validCount) * config.getSymbolMap().get(symbol).getRewardMultiplier();
-                sameSymbolScoreMap.put(symbol, multiplier);
-                appliedCombinations.computeIfAbsent(symbol, k -> new ArrayList<>())
-                        .add(String.format("same_symbol_%s_times", validCount));
+        long[] symbolBoards = context.symbolBoards;
+        int wordCount = game.getPatternMasks().getWordCount();
+        int boardCells = Math.min(game.getCellCount(), cells.length);
+        for (int word = 0, base = 0; base < boardCells; word++, base += Long.SIZE) {
+            int end = Math.min(boardCells, base + Long.SIZE);
+            for (int cell = base; cell < end; cell++) {
+                int symbolId = cells[cell];
+                if (symbolId != CompiledGame.UNKNOWN_SYMBOL_ID && symbolCounters[symbolId] >= minCells) {
+                    symbolBoards[symbolId * wordCount + word] |= 1L << cell;
+                }
             }
-        });
-
-        return sameSymbolScoreMap;
-    }
-
-    private Map<String, Double> calculateLinearSymbolScores(String[][] matrix,
-                                                            Map<String, Map<Double, List<List<List<String>>>>> linearSymbolsWinMap,
-                                                            Map<String, Integer> bonusSymbolCounters,
-                                                            Map<String, List<String>> appliedCombinations) {
-        Map<String, Double> linearSymbolScoreMap = new HashMap<>();
-        linearSymbolsWinMap.forEach((group, groupWithScore) -> {
-            groupWithScore.forEach((multiplier, patternList) -> {
-                patternList.forEach(patternGroup -> {
-                    patternGroup.forEach(pattern -> {
-                        String tempSymbol = "";
-                        boolean isSameRow = true;
-                        for (String position : pattern) {
-                            String[] coordinates = position.split(":");
-                            int x = Integer.parseInt(coordinates[0]);
-                            int y = Integer.parseInt(coordinates[1]);
-                            String symbol = matrix[x][y];
-                            if (tempSymbol.isEmpty()) {
-                                tempSymbol = symbol;
-                            }
-                            if (!tempSymbol.equals(symbol) || bonusSymbolCounters.containsKey(symbol)) {
-                                isSameRow = false;
-                                break;
-                            }
-                        }
-                        if (isSameRow) {
-                            linearSymbolScoreMap.merge(tempSymbol, multiplier, (v1, v2) -> v1 * v2);
-                            appliedCombinations.computeIfAbsent(tempSymbol, k -> new ArrayList<>())
-                                    .add(LinearSymbols.getWinCombinationNameBasedOnGroupName(group));
-                        }
-                    });
-                });
-            });
-        });
-
-        return linearSymbolScoreMap;
-    }
-
-    private double calculateTotalReward(Map<String, Double> sameSymbolScoreMap, Map<String, Double> linearSymbolScoreMap, double bettingAmount) {
-        return sameSymbolScoreMap.entrySet().stream()
-                .mapToDouble(e -> e.getValue() * linearSymbolScoreMap.getOrDefault(e.getKey(), 1.0) * bettingAmount)
-                .sum();
-    }
-
-    private double applyBonusesToScore(Map<String, Symbol> symbols, Map<String, Integer> bonusSymbolCounters, double score) {
-        return bonusSymbolCounters.entrySet().stream()
-                .reduce(score, (s, entry) -> {
-                    Symbol symbol = symbols.get(entry.getKey());
-                    if (symbol != null) {
-                        for (int i = 1; i <= entry.getValue(); i++) {
-                            s = symbol.applyBonus(s);
-                        }
-                    }
-                    return s;
-                }, Double::sum);
-    }
-
-    private Optional<String> findAppliedBonusSymbol(Map<String, Integer> bonusSymbolCounters, GameConfig config) {
-        return bonusSymbolCounters.keySet().stream()
-                .filter(key -> Optional.ofNullable(config.getSymbolMap().get(key)).map(Symbol::isBonus).orElse(false))
-                .findFirst();
-    }
-
-    private GameResult createGameResult(String[][] matrix, double totalReward, Map<String, List<String>> appliedCombinations, Optional<String> appliedBonusSymbol) {
+        }
+        context.boardsFilled = true;
+        return true;
+    }
+
+    private boolean calculateSameSymbolScores(CompiledGame game, ScoringContext context) {
+        int[] symbolCounters = context.symbolCounters;
+        boolean won = false;
+        for (int symbolId = 0; symbolId < symbolCounters.length; symbolId++) {
+            int count = symbolCounters[symbolId];
+            int combination = game.sameSymbolCombinationFor(count);
+            if (combination >= 0) {
+                context.sameSymbolScores[symbolId] = game.sameSymbolMultiplierFor(count) * game.rewardMultiplier(symbolId);
+                context.apply(symbolId, combination);
+                won = true;
+            }
+        }
+        return won;
+    }
+
+    private boolean calculateLinearSymbolScores(int[] cells, CompiledGame game, ScoringContext context) {
+        List<LinearCombination> combinations = game.getLinearCombinations();
+        PatternMasks patternMasks = game.getPatternMasks();
+        boolean won = false;
+        for (int pattern = 0; pattern < patternMasks.getPatternCount(); pattern++) {
+            int symbol = patternMasks.matchingSymbol(pattern, cells, context.symbolBoards, game);
+            if (symbol != CompiledGame.UNKNOWN_SYMBOL_ID) {
+                int linearIndex = patternMasks.linearIndexOf(pattern);
+                context.linearSymbolScores[symbol] *= combinations.get(linearIndex).getRewardMultiplier();
+                context.apply(symbol, game.linearCombinationIndex(linearIndex));
+                won = true;
+            }
+        }
+        return won;
+    }
+
+    private double calculateTotalReward(ScoringContext context, double bettingAmount) {
+        double[] sameSymbolScores = context.sameSymbolScores;
+        double totalReward = 0.0;
+        for (int symbolId = 0; symbolId < sameSymbolScores.length; symbolId++) {
+            if (sameSymbolScores[symbolId] != 0.0) {
+                totalReward += sameSymbolScores[symbolId] * context.linearSymbolScores[symbolId] * bettingAmount;
+            }
+        }
+        return totalReward;
+    }
+
+    // Applied once per occurrence rather than as a power or product, so the result stays bit-identical to CachedScore.
+    private double applyBonusesToScore(CompiledGame game, int[] symbolCounters, double score) {
+        for (int i = 0; i < game.getBonusSymbolCount(); i++) {
+            int symbolId = game.bonusSymbolIdAt(i);
+            for (int occurrence = symbolCounters[symbolId]; occurrence > 0; occurrence--) {
+                score = game.applyBonus(symbolId, score);
+            }
+        }
+        return score;
+    }
+
+    private int findAppliedBonusSymbol(int[] symbolCounters, CompiledGame game) {
+        for (int i = 0; i < game.getBonusSymbolCount(); i++) {
+            int symbolId = game.bonusSymbolIdAt(i);
+            if (symbolCounters[symbolId] > 0) {
+                return symbolId;
+            }
+        }
+        return CompiledGame.UNKNOWN_SYMBOL_ID;
+    }
+
+    private GameResult createGameResult(int[] cells, CompiledGame game, double totalReward, ScoringContext context) {
+        Map<String, List<String>> appliedCombinations = new HashMap<>();
+        for (int i = 0; i < context.getAppliedCount(); i++) {
+            appliedCombinations.computeIfAbsent(game.symbolName(context.appliedSymbolAt(i)), k -> new ArrayList<>())
+                    .add(game.winCombinationName(context.appliedCombinationAt(i)));
+        }
+
         GameResult gameResult = new GameResult();
-        gameResult.setMatrix(matrix);
+        gameResult.setCells(cells, game);
         gameResult.setTotalReward(totalReward);
         gameResult.setAppliedCombinations(appliedCombinations);
-        appliedBonusSymbol.ifPresent(gameResult::setAppliedBonusSymbol);
+        gameResult.setConfigVersion(game.getVersion());
+        if (context.getAppliedBonusSymbol() != CompiledGame.UNKNOWN_SYMBOL_ID) {
+            gameResult.setAppliedBonusSymbol(game.symbolName(context.getAppliedBonusSymbol()));
+        }
         return gameResult;
     }
 }
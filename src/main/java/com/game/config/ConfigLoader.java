@@ -1,8 +1,10 @@
 package com.game.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.engine.CompiledGame;
 
 import java.io.File;
+import java.nio.file.Path;
 
 public final class ConfigLoader {
 
@@ -13,4 +15,19 @@ public final class ConfigLoader {
         ObjectMapper objectMapper = new ObjectMapper();
         return objectMapper.readValue(new File(filePath), GameConfig.class);
     }
+
+    public static CompiledGame loadCompiledGame(String filePath) throws Exception {
+        return CompiledGame.compile(loadConfig(filePath));
+    }
+
+    /**
+     * Same result as {@link #loadConfig(String)}, read by {@link StreamingConfigReader} so databind is never loaded.
+     */
+    public static GameConfig loadConfigStreaming(String filePath) throws Exception {
+        return StreamingConfigReader.read(Path.of(filePath));
+    }
+
+    public static CompiledGame loadCompiledGameStreaming(String filePath) throws Exception {
+        return CompiledGame.compile(loadConfigStreaming(filePath));
+    }
 }
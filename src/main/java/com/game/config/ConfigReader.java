@@ -0,0 +1,10 @@
+package com.game.config;
+
+/**
+ * Reads a config file into a {@link GameConfig}; {@link ConfigLoader#loadConfig(String)} and
+ * {@link ConfigLoader#loadConfigStreaming(String)} are the two implementations.
+ */
+@FunctionalInterface
+public interface ConfigReader {
+    GameConfig read(String filePath) throws Exception;
+}
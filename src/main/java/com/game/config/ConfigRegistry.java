@@ -0,0 +1,149 @@
+package com.game.config;
+
+import com.game.engine.CompiledGame;
+import com.game.metrics.GameMetrics;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.game.errors.GameConfigErrors.CONFIG_RELOAD_FAILED;
+
+/**
+ * Holds the live {@link CompiledGame} for a config file. Reloads load and compile the new config on the
+ * caller's (or watcher's) thread and publish it with a single reference swap, so readers never lock and a
+ * ticket that already picked up a game keeps scoring against that version. A config that fails to load or
+ * validate is rejected and the previous version stays live.
+ */
+public final class ConfigRegistry implements Supplier<CompiledGame>, AutoCloseable {
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final Path configFile;
+    private final AtomicReference<CompiledGame> current;
+    private final GameMetrics metrics;
+    private final ConfigReader reader;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ConfigRegistry(Path configFile) throws Exception {
+        this(configFile, null);
+    }
+
+    /**
+     * Records how long each load and compile takes into {@code metrics} while it is enabled.
+     */
+    public ConfigRegistry(Path configFile, GameMetrics metrics) throws Exception {
+        this(configFile, metrics, ConfigLoader::loadConfig);
+    }
+
+    /**
+     * Reads the config file with {@code reader} on startup and on every reload.
+     */
+    public ConfigRegistry(Path configFile, GameMetrics metrics, ConfigReader reader) throws Exception {
+        this.configFile = configFile.toAbsolutePath();
+        this.metrics = metrics;
+        this.reader = reader;
+        this.current = new AtomicReference<>(compile(CompiledGame.INITIAL_VERSION));
+    }
+
+    @Override
+    public CompiledGame get() {
+        return current.get();
+    }
+
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    public Path getConfigFile() {
+        return configFile;
+    }
+
+    /**
+     * Loads and compiles the config file and swaps it in under the next version.
+     *
+     * @return true if the new version is live, false if the file was rejected
+     */
+    public synchronized boolean reload() {
+        long version = current.get().getVersion();
+        try {
+            current.set(compile(version + 1));
+            return true;
+        } catch (Exception e) {
+            System.err.println(CONFIG_RELOAD_FAILED + version + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Starts a daemon thread that reloads the config whenever its file is created or modified.
+     */
+    public synchronized void watch() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        configFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(this::watchLoop, "config-registry-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watcher != null) {
+            watcher.interrupt();
+            watchService.close();
+            watcher = null;
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = touchesConfigFile(key);
+                // Editors often write a file in several steps; let them settle and fold the burst into one reload.
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= touchesConfigFile(next);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Registry closed.
+        }
+    }
+
+    private boolean touchesConfigFile(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (configFile.getFileName().equals(event.context())) {
+                touched = true;
+            }
+        }
+        key.reset();
+        return touched;
+    }
+
+    private CompiledGame compile(long version) throws Exception {
+        long start = System.nanoTime();
+        CompiledGame game = CompiledGame.compile(reader.read(configFile.toString()), version);
+        if (metrics != null && metrics.isEnabled()) {
+            metrics.recordConfigLoad(System.nanoTime() - start);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,198 @@
+package com.game.config;
+
+import com.game.engine.CompiledGame;
+import com.game.engine.GameInterner;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.errors.GameConfigErrors.GAME_RELOAD_FAILED;
+import static com.game.errors.GameConfigErrors.INVALID_GAME_ID;
+import static com.game.errors.GameConfigErrors.UNKNOWN_GAME;
+
+/**
+ * Compiled games of one process, keyed by game id. Every game is compiled through one {@link GameInterner}, so
+ * paytables with equal symbol tables or pattern sets hold a single copy of them; tables no registered game uses
+ * any more are dropped on every change. Lookups are plain {@link ConcurrentHashMap} reads and never lock;
+ * registering compiles outside the map and publishes the game with one put, so a ticket that already picked up a
+ * game keeps scoring against it.
+ */
+public final class GameRegistry implements AutoCloseable {
+    private static final String CONFIG_EXTENSION = ".json";
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final Map<String, CompiledGame> games = new ConcurrentHashMap<>();
+    private final GameInterner interner = new GameInterner();
+    private final ConfigReader reader;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public GameRegistry() {
+        this(ConfigLoader::loadConfig);
+    }
+
+    /**
+     * Reads config files with {@code reader}, both when registering a file and when a watched file changes.
+     */
+    public GameRegistry(ConfigReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Registers every {@code *.json} file of {@code directory} under its file name without the extension.
+     *
+     * @return the number of games registered
+     */
+    public int registerAll(Path directory) throws Exception {
+        int registered = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + CONFIG_EXTENSION)) {
+            for (Path file : files) {
+                register(gameIdOf(file), file);
+                registered++;
+            }
+        }
+        return registered;
+    }
+
+    public CompiledGame register(String gameId, Path configFile) throws Exception {
+        return register(gameId, reader.read(configFile.toString()));
+    }
+
+    /**
+     * Compiles {@code config} and makes it the live game for {@code gameId}, one version above the game it
+     * replaces. A config that fails to compile leaves the current game in place.
+     */
+    public synchronized CompiledGame register(String gameId, GameConfig config) {
+        if (gameId == null || gameId.isBlank()) {
+            throw new IllegalArgumentException(INVALID_GAME_ID);
+        }
+        CompiledGame current = games.get(gameId);
+        long version = current == null ? CompiledGame.INITIAL_VERSION : current.getVersion() + 1;
+        CompiledGame game;
+        try {
+            game = CompiledGame.compile(config, version, interner);
+        } catch (RuntimeException e) {
+            // Drop whatever the rejected config interned before it failed.
+            interner.retainOnly(games.values());
+            throw e;
+        }
+        games.put(gameId, game);
+        interner.retainOnly(games.values());
+        return game;
+    }
+
+    public synchronized boolean unregister(String gameId) {
+        boolean removed = games.remove(gameId) != null;
+        interner.retainOnly(games.values());
+        return removed;
+    }
+
+    public CompiledGame get(String gameId) {
+        CompiledGame game = gameId == null ? null : games.get(gameId);
+        if (game == null) {
+            throw new IllegalArgumentException(UNKNOWN_GAME + gameId);
+        }
+        return game;
+    }
+
+    public boolean contains(String gameId) {
+        return gameId != null && games.containsKey(gameId);
+    }
+
+    public Set<String> getGameIds() {
+        return Set.copyOf(games.keySet());
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * @return the number of distinct tables shared by the registered games
+     */
+    public int getSharedTableCount() {
+        return interner.size();
+    }
+
+    /**
+     * Starts a daemon thread that re-registers a {@code *.json} file of {@code directory} whenever it is created or
+     * modified, as {@link ConfigRegistry#watch()} does for a single game. A file that fails to load keeps its
+     * previous version live; deleting a file does not unregister its game.
+     */
+    public synchronized void watch(Path directory) throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(() -> watchLoop(directory), "game-registry-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watcher != null) {
+            watcher.interrupt();
+            watchService.close();
+            watcher = null;
+        }
+    }
+
+    private void watchLoop(Path directory) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new HashSet<>();
+                collectConfigFiles(watchService.take(), changed);
+                // Editors often write a file in several steps; let them settle and fold the burst into one reload.
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collectConfigFiles(next, changed);
+                }
+                for (Path file : changed) {
+                    reload(directory.resolve(file));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Registry closed.
+        }
+    }
+
+    private void reload(Path file) {
+        String gameId = gameIdOf(file);
+        try {
+            register(gameId, file);
+        } catch (Exception e) {
+            System.err.println(GAME_RELOAD_FAILED + gameId + ": " + e.getMessage());
+        }
+    }
+
+    private static void collectConfigFiles(WatchKey key, Set<Path> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path && event.context().toString().endsWith(CONFIG_EXTENSION)) {
+                changed.add((Path) event.context());
+            }
+        }
+        key.reset();
+    }
+
+    private static String gameIdOf(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.substring(0, fileName.length() - CONFIG_EXTENSION.length());
+    }
+}
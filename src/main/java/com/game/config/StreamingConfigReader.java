@@ -0,0 +1,278 @@
+package com.game.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.game.model.BonusSymbolProbability;
+import com.game.model.Probability;
+import com.game.model.StandardSymbolProbability;
+import com.game.model.Symbol;
+import com.game.model.WinCombination;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.game.errors.GameConfigErrors.INVALID_CONFIG_VALUE;
+import static com.game.errors.GameConfigErrors.UNKNOWN_CONFIG_FIELD;
+
+/**
+ * Reads a {@link GameConfig} with the Jackson streaming parser and the model's setters, without databind.
+ * Skipping {@code ObjectMapper} and its reflective bean introspection takes most of the class loading out of a
+ * one-shot CLI run. The result matches {@code ObjectMapper#readValue}: maps keep file order, unknown fields are
+ * rejected, {@code null} leaves primitives at zero and numeric strings are coerced.
+ */
+public final class StreamingConfigReader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private StreamingConfigReader() {
+    }
+
+    public static GameConfig read(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return read(input);
+        }
+    }
+
+    public static GameConfig read(InputStream input) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            parser.nextToken();
+            return readGameConfig(parser);
+        }
+    }
+
+    private static GameConfig readGameConfig(JsonParser parser) throws IOException {
+        GameConfig config = new GameConfig();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "columns" -> config.setColumns(intValue(parser));
+                case "rows" -> config.setRows(intValue(parser));
+                case "symbols" -> config.setSymbolMap(isNull(parser) ? null : readSymbols(parser));
+                case "probabilities" -> config.setProbabilities(isNull(parser) ? null : readProbability(parser));
+                case "win_combinations" -> config.setWinCombinations(isNull(parser) ? null : readWinCombinations(parser));
+                default -> throw unknownField(parser, field);
+            }
+        }
+        return config;
+    }
+
+    private static Map<String, Symbol> readSymbols(JsonParser parser) throws IOException {
+        Map<String, Symbol> symbols = new LinkedHashMap<>();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            symbols.put(name, isNull(parser) ? null : readSymbol(parser));
+        }
+        return symbols;
+    }
+
+    private static Symbol readSymbol(JsonParser parser) throws IOException {
+        Symbol symbol = new Symbol();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "reward_multiplier" -> symbol.setRewardMultiplier(doubleValue(parser));
+                case "type" -> symbol.setType(stringValue(parser));
+                case "extra" -> symbol.setExtra(isNull(parser) ? null : doubleValue(parser));
+                case "impact" -> symbol.setImpact(stringValue(parser));
+                default -> throw unknownField(parser, field);
+            }
+        }
+        return symbol;
+    }
+
+    private static Probability readProbability(JsonParser parser) throws IOException {
+        Probability probability = new Probability();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "standard_symbols" -> probability.setStandardSymbols(isNull(parser) ? null : readStandardSymbols(parser));
+                case "bonus_symbols" -> probability.setBonusSymbols(isNull(parser) ? null : readBonusSymbols(parser));
+                default -> throw unknownField(parser, field);
+            }
+        }
+        return probability;
+    }
+
+    private static List<StandardSymbolProbability> readStandardSymbols(JsonParser parser) throws IOException {
+        List<StandardSymbolProbability> cells = new ArrayList<>();
+        startArray(parser);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (isNull(parser)) {
+                cells.add(null);
+                continue;
+            }
+            StandardSymbolProbability cell = new StandardSymbolProbability();
+            startObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "column" -> cell.setColumn(intValue(parser));
+                    case "row" -> cell.setRow(intValue(parser));
+                    case "symbols" -> cell.setSymbols(isNull(parser) ? null : readWeights(parser));
+                    default -> throw unknownField(parser, field);
+                }
+            }
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    private static BonusSymbolProbability readBonusSymbols(JsonParser parser) throws IOException {
+        BonusSymbolProbability bonusSymbols = new BonusSymbolProbability();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (!"symbols".equals(field)) {
+                throw unknownField(parser, field);
+            }
+            bonusSymbols.setSymbols(isNull(parser) ? null : readWeights(parser));
+        }
+        return bonusSymbols;
+    }
+
+    private static Map<String, Integer> readWeights(JsonParser parser) throws IOException {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            weights.put(name, isNull(parser) ? null : intValue(parser));
+        }
+        return weights;
+    }
+
+    private static Map<String, WinCombination> readWinCombinations(JsonParser parser) throws IOException {
+        Map<String, WinCombination> combinations = new LinkedHashMap<>();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            combinations.put(name, isNull(parser) ? null : readWinCombination(parser));
+        }
+        return combinations;
+    }
+
+    private static WinCombination readWinCombination(JsonParser parser) throws IOException {
+        WinCombination combination = new WinCombination();
+        startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "reward_multiplier" -> combination.setRewardMultiplier(doubleValue(parser));
+                case "when" -> combination.setWhen(stringValue(parser));
+                case "count" -> combination.setCount(intValue(parser));
+                case "group" -> combination.setGroup(stringValue(parser));
+                case "covered_areas" -> combination.setCoveredAreas(isNull(parser) ? null : readCoveredAreas(parser));
+                default -> throw unknownField(parser, field);
+            }
+        }
+        return combination;
+    }
+
+    private static List<List<String>> readCoveredAreas(JsonParser parser) throws IOException {
+        List<List<String>> areas = new ArrayList<>();
+        startArray(parser);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (isNull(parser)) {
+                areas.add(null);
+                continue;
+            }
+            List<String> area = new ArrayList<>();
+            startArray(parser);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                area.add(stringValue(parser));
+            }
+            areas.add(area);
+        }
+        return areas;
+    }
+
+    private static void startObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw invalidValue(parser);
+        }
+    }
+
+    private static void startArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw invalidValue(parser);
+        }
+    }
+
+    private static boolean isNull(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL;
+    }
+
+    private static int intValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                throw invalidValue(parser);
+            }
+        }
+        throw invalidValue(parser);
+    }
+
+    private static double doubleValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return 0.0;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Double.parseDouble(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                throw invalidValue(parser);
+            }
+        }
+        throw invalidValue(parser);
+    }
+
+    private static String stringValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw invalidValue(parser);
+    }
+
+    private static JsonParseException unknownField(JsonParser parser, String field) {
+        return new JsonParseException(parser, UNKNOWN_CONFIG_FIELD + field);
+    }
+
+    private static JsonParseException invalidValue(JsonParser parser) throws IOException {
+        return new JsonParseException(parser, INVALID_CONFIG_VALUE + parser.getText());
+    }
+}
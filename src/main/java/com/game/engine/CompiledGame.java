@@ -0,0 +1,473 @@
+package com.game.engine;
+
+import com.game.config.GameConfig;
+import com.game.enums.BonusImpact;
+import com.game.enums.LinearSymbols;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.SymbolSamplers;
+import com.game.generator.WeightedSymbolSampler;
+import com.game.model.Symbol;
+import com.game.model.WinCombination;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static com.game.errors.GameConfigErrors.INVALID_COVERED_AREA;
+import static com.game.errors.GameConfigErrors.INVALID_MATRIX_SIZE;
+import static com.game.errors.GameConfigErrors.UNKNOWN_SYMBOL;
+
+/**
+ * Immutable, thread-safe form of a {@link GameConfig}: symbols are interned to int ids, bonus impacts
+ * are resolved and win combinations are indexed once, so generation and scoring never touch the raw config.
+ */
+public final class CompiledGame {
+    public static final int UNKNOWN_SYMBOL_ID = -1;
+    public static final long INITIAL_VERSION = 1L;
+    private static final String SAME_SYMBOLS = "same_symbols";
+    private static final String LINEAR_SYMBOLS = "linear_symbols";
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final long version;
+    private final int rows;
+    private final int columns;
+    private final String[] symbolNames;
+    private final Map<String, Integer> symbolIds;
+    private final boolean[] bonusSymbols;
+    private final int[] bonusSymbolIds;
+    private final BonusImpact[] bonusImpacts;
+    private final double[] rewardMultipliers;
+    private final double[] extras;
+    private final int[] sameSymbolCounts;
+    private final double[] sameSymbolMultipliers;
+    private final String[] sameSymbolNames;
+    // Dense by symbol count: the same-symbol combination reached (or -1) and its multiplier (0 when none).
+    private final int[] sameSymbolCombinationByCount;
+    private final double[] sameSymbolMultiplierByCount;
+    private final List<LinearCombination> linearCombinations;
+    private final String[] winCombinationNames;
+    private final PatternMasks patternMasks;
+    private final SymbolSamplers samplers;
+    private final int[] samplerCells;
+    private final int[][] samplerSymbolIds;
+    private final int[] bonusSamplerSymbolIds;
+    // Computed on first use; racing threads compute the same digest.
+    private volatile byte[] fingerprint;
+
+    private CompiledGame(GameConfig config, long version, GameInterner interner, boolean withSamplers) {
+        this.version = version;
+        this.rows = config.getRows();
+        this.columns = config.getColumns();
+
+        Map<String, Symbol> symbolMap = config.getSymbolMap() == null ? Map.of() : config.getSymbolMap();
+        int symbolCount = symbolMap.size();
+        String[] symbolNames = new String[symbolCount];
+        boolean[] bonusSymbols = new boolean[symbolCount];
+        BonusImpact[] bonusImpacts = new BonusImpact[symbolCount];
+        double[] rewardMultipliers = new double[symbolCount];
+        double[] extras = new double[symbolCount];
+        Map<String, Integer> ids = new HashMap<>();
+
+        int id = 0;
+        for (Map.Entry<String, Symbol> entry : symbolMap.entrySet()) {
+            Symbol symbol = entry.getValue();
+            symbolNames[id] = entry.getKey();
+            bonusSymbols[id] = symbol.isBonus();
+            bonusImpacts[id] = symbol.isBonus() ? BonusImpact.fromValue(symbol.getImpact()) : null;
+            rewardMultipliers[id] = symbol.getRewardMultiplier();
+            extras[id] = symbol.getExtra() == null ? 0.0 : symbol.getExtra();
+            ids.put(entry.getKey(), id);
+            id++;
+        }
+        this.symbolNames = share(interner, symbolNames);
+        this.symbolIds = share(interner, Map.copyOf(ids));
+        this.bonusSymbols = share(interner, bonusSymbols);
+        this.bonusSymbolIds = share(interner, IntStream.range(0, symbolCount).filter(symbol -> bonusSymbols[symbol]).toArray());
+        this.bonusImpacts = share(interner, bonusImpacts);
+        this.rewardMultipliers = share(interner, rewardMultipliers);
+        this.extras = share(interner, extras);
+
+        Map<String, WinCombination> winCombinations = config.getWinCombinations() == null ? Map.of() : config.getWinCombinations();
+        TreeMap<Integer, Double> sameSymbolsWinMap = new TreeMap<>();
+        List<LinearCombination> linear = new ArrayList<>();
+        winCombinations.values().forEach(winCombination -> {
+            if (SAME_SYMBOLS.equals(winCombination.getWhen()) && winCombination.getCount() > 0) {
+                sameSymbolsWinMap.put(winCombination.getCount(), winCombination.getRewardMultiplier());
+            } else if (LINEAR_SYMBOLS.equals(winCombination.getWhen())) {
+                linear.add(new LinearCombination(
+                        LinearSymbols.getWinCombinationNameBasedOnGroupName(winCombination.getGroup()),
+                        winCombination.getRewardMultiplier(),
+                        share(interner, parseCoveredAreas(winCombination.getCoveredAreas()))));
+            }
+        });
+
+        int[] sameSymbolCounts = sameSymbolsWinMap.keySet().stream().mapToInt(Integer::intValue).toArray();
+        double[] sameSymbolMultipliers = sameSymbolsWinMap.values().stream().mapToDouble(Double::doubleValue).toArray();
+        this.sameSymbolCounts = share(interner, sameSymbolCounts);
+        this.sameSymbolMultipliers = share(interner, sameSymbolMultipliers);
+        this.sameSymbolNames = share(interner, Arrays.stream(sameSymbolCounts)
+                .mapToObj(count -> String.format("same_symbol_%s_times", count)).toArray(String[]::new));
+        int maxCount = Math.max(rows * columns, sameSymbolCounts.length == 0 ? 0 : sameSymbolCounts[sameSymbolCounts.length - 1]);
+        int[] sameSymbolCombinationByCount = new int[maxCount + 1];
+        double[] sameSymbolMultiplierByCount = new double[maxCount + 1];
+        int combination = -1;
+        for (int count = 0; count <= maxCount; count++) {
+            while (combination + 1 < sameSymbolCounts.length && sameSymbolCounts[combination + 1] <= count) {
+                combination++;
+            }
+            sameSymbolCombinationByCount[count] = combination;
+            sameSymbolMultiplierByCount[count] = combination < 0 ? 0.0 : sameSymbolMultipliers[combination];
+        }
+        this.sameSymbolCombinationByCount = share(interner, sameSymbolCombinationByCount);
+        this.sameSymbolMultiplierByCount = share(interner, sameSymbolMultiplierByCount);
+
+        String[] linearNames = linear.stream().map(LinearCombination::getName).toArray(String[]::new);
+        double[] linearMultipliers = linear.stream().mapToDouble(LinearCombination::getRewardMultiplier).toArray();
+        int[][][] linearPatterns = linear.stream().map(LinearCombination::patterns).toArray(int[][][]::new);
+        this.linearCombinations = interner == null
+                ? List.copyOf(linear)
+                : interner.intern(new Object[]{LinearCombination.class, linearNames, linearMultipliers, linearPatterns}, () -> List.copyOf(linear));
+        String[] winCombinationNames = new String[sameSymbolNames.length + linearNames.length];
+        System.arraycopy(sameSymbolNames, 0, winCombinationNames, 0, sameSymbolNames.length);
+        System.arraycopy(linearNames, 0, winCombinationNames, sameSymbolNames.length, linearNames.length);
+        this.winCombinationNames = share(interner, winCombinationNames);
+        boolean hasStandardSymbols = false;
+        for (boolean bonus : bonusSymbols) {
+            hasStandardSymbols |= !bonus;
+        }
+        // Masks only depend on the pattern geometry, so paytables that differ in multipliers still share them.
+        boolean standardSymbols = hasStandardSymbols;
+        this.patternMasks = interner == null
+                ? new PatternMasks(linearCombinations, rows * columns, hasStandardSymbols)
+                : interner.intern(new Object[]{PatternMasks.class, rows * columns, hasStandardSymbols, linearPatterns},
+                        () -> new PatternMasks(linearCombinations, rows * columns, standardSymbols));
+
+        if (withSamplers && config.getProbabilities() != null) {
+            MatrixGenerator.validateConfig(config);
+            this.samplers = SymbolSamplers.of(config);
+            this.samplerCells = new int[samplers.size()];
+            this.samplerSymbolIds = new int[samplers.size()][];
+            for (int i = 0; i < samplers.size(); i++) {
+                samplerCells[i] = samplers.rowAt(i) * columns + samplers.columnAt(i);
+                samplerSymbolIds[i] = symbolIdsOf(samplers.standardSamplerAt(i));
+            }
+            this.bonusSamplerSymbolIds = samplers.hasBonusSymbols() ? symbolIdsOf(samplers.getBonusSampler()) : new int[0];
+        } else {
+            this.samplers = null;
+            this.samplerCells = new int[0];
+            this.samplerSymbolIds = new int[0][];
+            this.bonusSamplerSymbolIds = new int[0];
+        }
+    }
+
+    public static CompiledGame compile(GameConfig config) {
+        return compile(config, INITIAL_VERSION);
+    }
+
+    public static CompiledGame compile(GameConfig config, long version) {
+        return new CompiledGame(config, version, null, true);
+    }
+
+    /**
+     * Compiles only what scoring needs: probabilities are neither validated nor turned into samplers, so the game
+     * cannot generate grids. This still builds every scoring table, so callers scoring many grids should compile
+     * once and reuse the game.
+     */
+    public static CompiledGame compileForScoring(GameConfig config) {
+        return new CompiledGame(config, INITIAL_VERSION, null, false);
+    }
+
+    /**
+     * Compiles {@code config} with its tables taken from {@code interner}, so games compiled through the same
+     * interner share every table whose content is equal.
+     */
+    public static CompiledGame compile(GameConfig config, long version, GameInterner interner) {
+        return new CompiledGame(config, version, interner, true);
+    }
+
+    private static <T> T share(GameInterner interner, T value) {
+        return interner == null ? value : interner.intern(value);
+    }
+
+    // Covers everything that affects scoring, so two games with equal fingerprints score every grid identically.
+    private byte[] computeFingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(rows);
+            output.writeInt(columns);
+            output.writeInt(symbolNames.length);
+            for (int id = 0; id < symbolNames.length; id++) {
+                output.writeUTF(symbolNames[id]);
+                output.writeBoolean(bonusSymbols[id]);
+                output.writeUTF(bonusImpacts[id] == null ? "" : bonusImpacts[id].name());
+                output.writeDouble(rewardMultipliers[id]);
+                output.writeDouble(extras[id]);
+            }
+            output.writeInt(sameSymbolCounts.length);
+            for (int i = 0; i < sameSymbolCounts.length; i++) {
+                output.writeInt(sameSymbolCounts[i]);
+                output.writeDouble(sameSymbolMultipliers[i]);
+            }
+            output.writeInt(linearCombinations.size());
+            for (LinearCombination combination : linearCombinations) {
+                output.writeUTF(combination.getName());
+                output.writeDouble(combination.getRewardMultiplier());
+                output.writeInt(combination.patterns().length);
+                for (int[] pattern : combination.patterns()) {
+                    output.writeInt(pattern.length);
+                    for (int cell : pattern) {
+                        output.writeInt(cell);
+                    }
+                }
+            }
+            output.flush();
+            return digest.digest(bytes.toByteArray());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int[] symbolIdsOf(WeightedSymbolSampler sampler) {
+        int[] ids = new int[sampler.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = symbolId(sampler.symbolAt(i));
+        }
+        return ids;
+    }
+
+    private int[][] parseCoveredAreas(List<List<String>> coveredAreas) {
+        if (coveredAreas == null) {
+            return new int[0][];
+        }
+        int[][] patterns = new int[coveredAreas.size()][];
+        for (int i = 0; i < patterns.length; i++) {
+            List<String> area = coveredAreas.get(i);
+            patterns[i] = new int[area.size()];
+            for (int j = 0; j < patterns[i].length; j++) {
+                patterns[i][j] = parseCoordinate(area.get(j));
+            }
+        }
+        return patterns;
+    }
+
+    private int parseCoordinate(String position) {
+        int separator = position == null ? -1 : position.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException(INVALID_COVERED_AREA + position);
+        }
+        try {
+            int row = Integer.parseInt(position.substring(0, separator).trim());
+            int column = Integer.parseInt(position.substring(separator + 1).trim());
+            if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                throw new IllegalArgumentException(INVALID_COVERED_AREA + position);
+            }
+            return row * columns + column;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_COVERED_AREA + position, e);
+        }
+    }
+
+    // Every table that compile may have taken from a GameInterner.
+    List<Object> sharedParts() {
+        List<Object> parts = new ArrayList<>(List.of(symbolNames, symbolIds, bonusSymbols, bonusSymbolIds, bonusImpacts,
+                rewardMultipliers, extras, sameSymbolCounts, sameSymbolMultipliers, sameSymbolNames,
+                sameSymbolCombinationByCount, sameSymbolMultiplierByCount, linearCombinations, winCombinationNames, patternMasks));
+        for (LinearCombination combination : linearCombinations) {
+            parts.add(combination.patterns());
+        }
+        return parts;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * SHA-256 over the symbols, their bonus impacts and every win combination, independent of the version
+     * and of symbol probabilities.
+     */
+    public byte[] getFingerprint() {
+        byte[] digest = fingerprint;
+        if (digest == null) {
+            digest = computeFingerprint();
+            fingerprint = digest;
+        }
+        return digest.clone();
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getSymbolCount() {
+        return symbolNames.length;
+    }
+
+    public String symbolName(int symbolId) {
+        return symbolNames[symbolId];
+    }
+
+    public int symbolId(String symbol) {
+        Integer id = symbolIds.get(symbol);
+        if (id == null) {
+            throw new IllegalArgumentException(UNKNOWN_SYMBOL + symbol);
+        }
+        return id;
+    }
+
+    public boolean isBonus(int symbolId) {
+        return bonusSymbols[symbolId];
+    }
+
+    public int getBonusSymbolCount() {
+        return bonusSymbolIds.length;
+    }
+
+    /**
+     * @return id of the {@code index}-th bonus symbol, in ascending id order
+     */
+    public int bonusSymbolIdAt(int index) {
+        return bonusSymbolIds[index];
+    }
+
+    public BonusImpact bonusImpact(int symbolId) {
+        return bonusImpacts[symbolId];
+    }
+
+    public double rewardMultiplier(int symbolId) {
+        return rewardMultipliers[symbolId];
+    }
+
+    public double applyBonus(int symbolId, double currentReward) {
+        BonusImpact impact = bonusImpacts[symbolId];
+        if (impact == BonusImpact.MULTIPLY_REWARD) {
+            return currentReward * rewardMultipliers[symbolId];
+        } else if (impact == BonusImpact.EXTRA_BONUS) {
+            return currentReward + extras[symbolId];
+        }
+        return currentReward;
+    }
+
+    public int getSameSymbolCombinationCount() {
+        return sameSymbolCounts.length;
+    }
+
+    public int sameSymbolCountAt(int index) {
+        return sameSymbolCounts[index];
+    }
+
+    public double sameSymbolMultiplierAt(int index) {
+        return sameSymbolMultipliers[index];
+    }
+
+    /**
+     * @return index of the highest same-symbol combination whose count is at most {@code count}, or -1 if none
+     */
+    public int sameSymbolCombinationFor(int count) {
+        return sameSymbolCombinationByCount[Math.min(count, sameSymbolCombinationByCount.length - 1)];
+    }
+
+    /**
+     * @return multiplier of {@link #sameSymbolCombinationFor(int)}, or 0 if no combination is reached
+     */
+    public double sameSymbolMultiplierFor(int count) {
+        return sameSymbolMultiplierByCount[Math.min(count, sameSymbolMultiplierByCount.length - 1)];
+    }
+
+    public String sameSymbolNameAt(int index) {
+        return sameSymbolNames[index];
+    }
+
+    public List<LinearCombination> getLinearCombinations() {
+        return linearCombinations;
+    }
+
+    public int getWinCombinationCount() {
+        return winCombinationNames.length;
+    }
+
+    public String winCombinationName(int combinationIndex) {
+        return winCombinationNames[combinationIndex];
+    }
+
+    public int linearCombinationIndex(int linearIndex) {
+        return sameSymbolCounts.length + linearIndex;
+    }
+
+    /**
+     * @return number of patterns the scorer evaluates, after dropping those that can never match
+     */
+    public int getPatternCount() {
+        return patternMasks.getPatternCount();
+    }
+
+    public PatternMasks getPatternMasks() {
+        return patternMasks;
+    }
+
+    public SymbolSamplers getSamplers() {
+        return samplers;
+    }
+
+    public int getCellCount() {
+        return rows * columns;
+    }
+
+    public int samplerCellAt(int samplerIndex) {
+        return samplerCells[samplerIndex];
+    }
+
+    public int sampledSymbolId(int samplerIndex, int sampleIndex) {
+        return samplerSymbolIds[samplerIndex][sampleIndex];
+    }
+
+    public int sampledBonusSymbolId(int sampleIndex) {
+        return bonusSamplerSymbolIds[sampleIndex];
+    }
+
+    public String[][] decode(int[] cells) {
+        if (cells.length != getCellCount()) {
+            throw new IllegalArgumentException(INVALID_MATRIX_SIZE);
+        }
+        String[][] matrix = new String[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int symbolId = cells[row * columns + column];
+                matrix[row][column] = symbolId == UNKNOWN_SYMBOL_ID ? null : symbolNames[symbolId];
+            }
+        }
+        return matrix;
+    }
+
+    public int[] encode(String[][] matrix) {
+        if (rows > 0 && columns > 0 && (matrix.length != rows || matrix[0].length != columns)) {
+            throw new IllegalArgumentException(INVALID_MATRIX_SIZE);
+        }
+        int width = matrix.length == 0 ? 0 : matrix[0].length;
+        int[] cells = new int[matrix.length * width];
+        for (int row = 0; row < matrix.length; row++) {
+            if (matrix[row].length != width) {
+                throw new IllegalArgumentException(INVALID_MATRIX_SIZE);
+            }
+            for (int column = 0; column < width; column++) {
+                cells[row * width + column] = symbolIds.getOrDefault(matrix[row][column], UNKNOWN_SYMBOL_ID);
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,32 @@
+package com.game.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class ConfigAnalysis {
+    private final List<ConfigIssue> issues;
+    private final List<String> deadWinCombinations;
+    // Covered areas the scorer evaluates, by linear win combination, as normalized "row:column" coordinates.
+    private final Map<String, List<List<String>>> scoredPatterns;
+    // Upper bound on the bet-proportional part of a reward, multiplication bonus included.
+    private final double maxPayoutMultiplier;
+    private final double maxExtraBonus;
+
+    /**
+     * @return an upper bound on the reward of any ticket the configured probabilities can produce
+     */
+    public double maxPayout(double bettingAmount) {
+        return maxPayoutMultiplier * bettingAmount + maxExtraBonus;
+    }
+
+    public int scoredPatternCount() {
+        return scoredPatterns.values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -0,0 +1,396 @@
+package com.game.engine;
+
+import com.game.config.GameConfig;
+import com.game.enums.BonusImpact;
+import com.game.enums.ConfigIssueType;
+import com.game.enums.LinearSymbols;
+import com.game.model.BonusSymbolProbability;
+import com.game.model.StandardSymbolProbability;
+import com.game.model.Symbol;
+import com.game.model.WinCombination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.game.errors.ConfigAnalysisErrors.COORDINATE_OUT_OF_GRID;
+import static com.game.errors.ConfigAnalysisErrors.DEAD_PATTERN;
+import static com.game.errors.ConfigAnalysisErrors.DUPLICATE_PATTERN;
+import static com.game.errors.ConfigAnalysisErrors.EMPTY_PATTERN;
+import static com.game.errors.ConfigAnalysisErrors.INVALID_GRID;
+import static com.game.errors.ConfigAnalysisErrors.NON_POSITIVE_COUNT;
+import static com.game.errors.ConfigAnalysisErrors.NO_SCORED_PATTERNS;
+import static com.game.errors.ConfigAnalysisErrors.PROBABILITY_CELL_OUT_OF_GRID;
+import static com.game.errors.ConfigAnalysisErrors.SHADOWED_COUNT;
+import static com.game.errors.ConfigAnalysisErrors.UNBOUNDED_PAYOUT;
+import static com.game.errors.ConfigAnalysisErrors.UNKNOWN_BONUS_IMPACT;
+import static com.game.errors.ConfigAnalysisErrors.UNKNOWN_CONDITION;
+import static com.game.errors.ConfigAnalysisErrors.UNKNOWN_GROUP;
+import static com.game.errors.ConfigAnalysisErrors.UNKNOWN_PROBABILITY_SYMBOL;
+import static com.game.errors.ConfigAnalysisErrors.UNREACHABLE_COUNT;
+
+/**
+ * Static analysis of a {@link GameConfig} before it is compiled or served. Unlike compilation it never stops at the
+ * first problem: every invalid coordinate, dead win combination and unreachable count is reported as a
+ * {@link ConfigIssue}.
+ * <p>
+ * Reachability follows the generator: a cell can hold the standard symbols its probabilities give a positive weight
+ * (the last entry for a cell wins), cells without probabilities stay empty, and a ticket holds at most one bonus
+ * symbol. Without probabilities every standard symbol is assumed to reach every cell. Patterns that no symbol can
+ * fill under the probabilities are reported but still scored, so a grid scored from outside the generator keeps its
+ * reward; the scorer only drops patterns that can never match any grid (see {@link #isScored}).
+ */
+public final class ConfigAnalyzer {
+    private static final String SAME_SYMBOLS = "same_symbols";
+    private static final String LINEAR_SYMBOLS = "linear_symbols";
+
+    private ConfigAnalyzer() {
+    }
+
+    /**
+     * The scorer's pruning rule: an empty pattern, or any pattern of a game without standard symbols, can never
+     * match, whatever the grid.
+     */
+    static boolean isScored(int[] pattern, boolean hasStandardSymbols) {
+        return hasStandardSymbols && pattern.length > 0;
+    }
+
+    public static ConfigAnalysis analyze(GameConfig config) {
+        return new Analysis(config).run();
+    }
+
+    private static final class Analysis {
+        private final GameConfig config;
+        private final int rows;
+        private final int columns;
+        private final List<ConfigIssue> issues = new ArrayList<>();
+        private final List<String> deadWinCombinations = new ArrayList<>();
+        private final Map<String, List<List<String>>> scoredPatterns = new LinkedHashMap<>();
+        private final Map<String, Symbol> symbols;
+        private final Map<String, Integer> symbolIds = new HashMap<>();
+        private final String[] symbolNames;
+        private final boolean[] standard;
+        private final boolean[] bonus;
+        private final boolean hasStandardSymbols;
+        // reachable[cell][symbolId] for standard symbols; bonusReachable[symbolId] for bonus symbols.
+        private final boolean[][] reachable;
+        private final boolean[] bonusReachable;
+        private final int[] maxCounts;
+        // linearFactors[symbolId][cells]: product of the multipliers (at least 1) of the fillable patterns of that size.
+        private final double[][] linearFactors;
+        // Any won combination lets the bonuses apply, so an extra bonus pays even when no multiplier does.
+        private boolean anyWinReachable;
+
+        private Analysis(GameConfig config) {
+            this.config = config;
+            this.rows = config.getRows();
+            this.columns = config.getColumns();
+            this.symbols = config.getSymbolMap() == null ? Map.of() : config.getSymbolMap();
+            this.symbolNames = symbols.keySet().toArray(String[]::new);
+            this.standard = new boolean[symbolNames.length];
+            this.bonus = new boolean[symbolNames.length];
+            boolean anyStandard = false;
+            for (int id = 0; id < symbolNames.length; id++) {
+                symbolIds.put(symbolNames[id], id);
+                Symbol symbol = symbols.get(symbolNames[id]);
+                standard[id] = symbol != null && !symbol.isBonus();
+                bonus[id] = symbol != null && symbol.isBonus();
+                anyStandard |= standard[id];
+            }
+            this.hasStandardSymbols = anyStandard;
+            this.reachable = new boolean[Math.max(0, rows) * Math.max(0, columns)][symbolNames.length];
+            this.bonusReachable = new boolean[symbolNames.length];
+            this.maxCounts = new int[symbolNames.length];
+            this.linearFactors = new double[symbolNames.length][reachable.length + 1];
+            for (double[] factors : linearFactors) {
+                Arrays.fill(factors, 1.0);
+            }
+        }
+
+        private ConfigAnalysis run() {
+            if (rows <= 0 || columns <= 0) {
+                issue(ConfigIssueType.INVALID_GRID, null, INVALID_GRID);
+                return new ConfigAnalysis(issues, deadWinCombinations, scoredPatterns, 0.0, 0.0);
+            }
+            analyzeSymbols();
+            analyzeProbabilities();
+
+            Map<String, WinCombination> winCombinations = config.getWinCombinations() == null ? Map.of() : config.getWinCombinations();
+            // Compilation keeps the last same-symbol combination per count.
+            Map<Integer, String> sameSymbolNames = new HashMap<>();
+            TreeMap<Integer, Double> sameSymbolMultipliers = new TreeMap<>();
+            winCombinations.forEach((name, combination) -> {
+                if (combination == null) {
+                    dead(name, ConfigIssueType.UNKNOWN_CONDITION, UNKNOWN_CONDITION + null);
+                } else if (SAME_SYMBOLS.equals(combination.getWhen())) {
+                    analyzeSameSymbols(name, combination, sameSymbolNames, sameSymbolMultipliers);
+                } else if (LINEAR_SYMBOLS.equals(combination.getWhen())) {
+                    analyzeLinear(name, combination);
+                } else {
+                    dead(name, ConfigIssueType.UNKNOWN_CONDITION, UNKNOWN_CONDITION + combination.getWhen());
+                }
+            });
+
+            double multiplier = maxPayoutMultiplier(sameSymbolMultipliers);
+            double extra = anyWinReachable ? maxExtraBonus() : 0.0;
+            if (!Double.isFinite(multiplier) || !Double.isFinite(extra)) {
+                issue(ConfigIssueType.UNBOUNDED_PAYOUT, null, UNBOUNDED_PAYOUT);
+            }
+            return new ConfigAnalysis(issues, deadWinCombinations, scoredPatterns, multiplier, extra);
+        }
+
+        private void analyzeSymbols() {
+            for (int id = 0; id < symbolNames.length; id++) {
+                Symbol symbol = symbols.get(symbolNames[id]);
+                if (symbol != null && symbol.isBonus() && BonusImpact.fromValue(symbol.getImpact()) == null) {
+                    issue(ConfigIssueType.UNKNOWN_BONUS_IMPACT, null, UNKNOWN_BONUS_IMPACT + symbolNames[id]);
+                }
+            }
+        }
+
+        private void analyzeProbabilities() {
+            if (config.getProbabilities() == null) {
+                for (boolean[] cell : reachable) {
+                    System.arraycopy(standard, 0, cell, 0, standard.length);
+                }
+                System.arraycopy(bonus, 0, bonusReachable, 0, bonus.length);
+            } else {
+                List<StandardSymbolProbability> standardSymbols = config.getProbabilities().getStandardSymbols();
+                boolean anyCell = false;
+                for (StandardSymbolProbability probability : standardSymbols == null ? List.<StandardSymbolProbability>of() : standardSymbols) {
+                    if (probability == null) {
+                        continue;
+                    }
+                    if (probability.getRow() < 0 || probability.getRow() >= rows || probability.getColumn() < 0 || probability.getColumn() >= columns) {
+                        issue(ConfigIssueType.INVALID_PROBABILITY_CELL, null,
+                                PROBABILITY_CELL_OUT_OF_GRID + probability.getRow() + ":" + probability.getColumn());
+                        continue;
+                    }
+                    boolean[] cell = reachable[probability.getRow() * columns + probability.getColumn()];
+                    Arrays.fill(cell, false);
+                    for (int id : weightedSymbols(probability.getSymbols())) {
+                        cell[id] = standard[id];
+                    }
+                    anyCell = true;
+                }
+                BonusSymbolProbability bonusSymbols = config.getProbabilities().getBonusSymbols();
+                if (anyCell && bonusSymbols != null) {
+                    for (int id : weightedSymbols(bonusSymbols.getSymbols())) {
+                        bonusReachable[id] = bonus[id];
+                    }
+                }
+            }
+
+            for (boolean[] cell : reachable) {
+                for (int id = 0; id < cell.length; id++) {
+                    maxCounts[id] += cell[id] ? 1 : 0;
+                }
+            }
+            for (int id = 0; id < symbolNames.length; id++) {
+                if (bonusReachable[id]) {
+                    maxCounts[id] = 1;
+                }
+            }
+        }
+
+        private List<Integer> weightedSymbols(Map<String, Integer> weights) {
+            List<Integer> ids = new ArrayList<>();
+            if (weights == null) {
+                return ids;
+            }
+            weights.forEach((name, weight) -> {
+                Integer id = symbolIds.get(name);
+                if (id == null) {
+                    issue(ConfigIssueType.UNKNOWN_SYMBOL, null, UNKNOWN_PROBABILITY_SYMBOL + name);
+                } else if (weight != null && weight > 0) {
+                    ids.add(id);
+                }
+            });
+            return ids;
+        }
+
+        private void analyzeSameSymbols(String name, WinCombination combination, Map<Integer, String> names,
+                                        TreeMap<Integer, Double> multipliers) {
+            int count = combination.getCount();
+            if (count <= 0) {
+                dead(name, ConfigIssueType.UNREACHABLE_SAME_SYMBOL_COUNT, NON_POSITIVE_COUNT + count);
+                return;
+            }
+            String shadowed = names.put(count, name);
+            multipliers.put(count, combination.getRewardMultiplier());
+            if (shadowed != null) {
+                dead(shadowed, ConfigIssueType.SHADOWED_SAME_SYMBOL_COUNT, SHADOWED_COUNT + name);
+            }
+            if (Arrays.stream(maxCounts).noneMatch(maxCount -> maxCount >= count)) {
+                dead(name, ConfigIssueType.UNREACHABLE_SAME_SYMBOL_COUNT, UNREACHABLE_COUNT + count);
+            } else {
+                anyWinReachable = true;
+            }
+        }
+
+        private void analyzeLinear(String name, WinCombination combination) {
+            if (!isKnownGroup(combination.getGroup())) {
+                dead(name, ConfigIssueType.UNKNOWN_GROUP, UNKNOWN_GROUP + combination.getGroup());
+                return;
+            }
+            List<List<String>> scored = new ArrayList<>();
+            boolean anyFillable = false;
+            Set<Set<Integer>> seen = new HashSet<>();
+            List<List<String>> areas = combination.getCoveredAreas() == null ? List.of() : combination.getCoveredAreas();
+            for (List<String> area : areas) {
+                int[] pattern = parsePattern(name, area);
+                if (pattern == null) {
+                    continue;
+                }
+                if (pattern.length == 0) {
+                    issue(ConfigIssueType.EMPTY_PATTERN, name, EMPTY_PATTERN + area);
+                    continue;
+                }
+                Set<Integer> cells = new HashSet<>();
+                List<String> coordinates = new ArrayList<>(pattern.length);
+                for (int cell : pattern) {
+                    cells.add(cell);
+                    coordinates.add(cell / columns + ":" + cell % columns);
+                }
+                if (!seen.add(cells)) {
+                    issue(ConfigIssueType.DUPLICATE_PATTERN, name, DUPLICATE_PATTERN + coordinates);
+                }
+                if (isScored(pattern, hasStandardSymbols)) {
+                    scored.add(coordinates);
+                }
+
+                boolean fillable = false;
+                for (int id = 0; id < symbolNames.length; id++) {
+                    if (standard[id] && canFill(id, pattern)) {
+                        fillable = true;
+                        linearFactors[id][cells.size()] *= Math.max(1.0, combination.getRewardMultiplier());
+                    }
+                }
+                if (!fillable) {
+                    issue(ConfigIssueType.DEAD_PATTERN, name, DEAD_PATTERN + coordinates);
+                }
+                anyFillable |= fillable;
+            }
+            scoredPatterns.put(name, scored);
+            anyWinReachable |= anyFillable;
+            if (!anyFillable) {
+                dead(name, ConfigIssueType.DEAD_WIN_COMBINATION, NO_SCORED_PATTERNS);
+            }
+        }
+
+        // Null (and an issue) for a pattern with a coordinate compilation would reject.
+        private int[] parsePattern(String name, List<String> area) {
+            if (area == null) {
+                issue(ConfigIssueType.EMPTY_PATTERN, name, EMPTY_PATTERN + null);
+                return null;
+            }
+            int[] pattern = new int[area.size()];
+            boolean valid = true;
+            for (int i = 0; i < pattern.length; i++) {
+                pattern[i] = parseCoordinate(area.get(i));
+                if (pattern[i] < 0) {
+                    issue(ConfigIssueType.INVALID_COORDINATE, name, COORDINATE_OUT_OF_GRID + area.get(i));
+                    valid = false;
+                }
+            }
+            return valid ? pattern : null;
+        }
+
+        private int parseCoordinate(String position) {
+            int separator = position == null ? -1 : position.indexOf(':');
+            if (separator < 0) {
+                return -1;
+            }
+            try {
+                int row = Integer.parseInt(position.substring(0, separator).trim());
+                int column = Integer.parseInt(position.substring(separator + 1).trim());
+                return row < 0 || row >= rows || column < 0 || column >= columns ? -1 : row * columns + column;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private boolean canFill(int symbolId, int[] pattern) {
+            for (int cell : pattern) {
+                if (!reachable[cell][symbolId]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Knapsack over cell counts: a symbol filling {@code c} cells pays at most its same-symbol multiplier for
+         * {@code c} times every pattern of at most {@code c} cells it can fill, and the symbols' counts share the grid.
+         * Which cells they take is relaxed away, so the result is an upper bound.
+         */
+        private double maxPayoutMultiplier(TreeMap<Integer, Double> sameSymbolMultipliers) {
+            int cellCount = reachable.length;
+            double[] best = new double[cellCount + 1];
+            for (int id = 0; id < symbolNames.length; id++) {
+                if (maxCounts[id] == 0) {
+                    continue;
+                }
+                double[] payouts = new double[maxCounts[id] + 1];
+                double linear = 1.0;
+                for (int count = 1; count <= maxCounts[id]; count++) {
+                    linear *= linearFactors[id][count];
+                    Map.Entry<Integer, Double> tier = sameSymbolMultipliers.floorEntry(count);
+                    double same = tier == null ? 0.0 : tier.getValue() * symbols.get(symbolNames[id]).getRewardMultiplier();
+                    payouts[count] = Math.max(0.0, same * (standard[id] ? linear : 1.0));
+                }
+                double[] next = best.clone();
+                for (int used = 1; used <= cellCount; used++) {
+                    for (int count = 1; count <= Math.min(used, maxCounts[id]); count++) {
+                        next[used] = Math.max(next[used], best[used - count] + payouts[count]);
+                    }
+                }
+                best = next;
+            }
+            double total = Arrays.stream(best).max().orElse(0.0);
+
+            // A multiplication bonus takes one of the cells, unless a one-symbol tier lets the bonus score by itself.
+            boolean bonusScores = !sameSymbolMultipliers.isEmpty() && sameSymbolMultipliers.firstKey() <= 1;
+            double withBonus = Arrays.stream(best, 0, bonusScores ? cellCount + 1 : cellCount).max().orElse(0.0);
+            for (int id = 0; id < symbolNames.length; id++) {
+                Symbol symbol = symbols.get(symbolNames[id]);
+                if (bonusReachable[id] && symbol.isMultiplicationBonus()) {
+                    total = Math.max(total, withBonus * symbol.getRewardMultiplier());
+                }
+            }
+            return total;
+        }
+
+        private double maxExtraBonus() {
+            double extra = 0.0;
+            for (int id = 0; id < symbolNames.length; id++) {
+                Symbol symbol = symbols.get(symbolNames[id]);
+                if (bonusReachable[id] && symbol.isExtraBonus() && symbol.getExtra() != null) {
+                    extra = Math.max(extra, symbol.getExtra());
+                }
+            }
+            return extra;
+        }
+
+        private static boolean isKnownGroup(String group) {
+            return group != null && Arrays.stream(LinearSymbols.values()).anyMatch(linear -> linear.getGroup().equalsIgnoreCase(group));
+        }
+
+        private void dead(String name, ConfigIssueType type, String detail) {
+            issue(type, name, detail);
+            if (!deadWinCombinations.contains(name)) {
+                deadWinCombinations.add(name);
+            }
+        }
+
+        private void issue(ConfigIssueType type, String winCombination, String detail) {
+            issues.add(new ConfigIssue(type, winCombination, detail));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.game.engine;
+
+import com.game.enums.ConfigIssueType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One finding of {@link ConfigAnalyzer}; {@code winCombination} is {@code null} for findings about symbols,
+ * probabilities or the grid.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class ConfigIssue {
+    private final ConfigIssueType type;
+    private final String winCombination;
+    private final String detail;
+}
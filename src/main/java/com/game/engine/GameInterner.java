@@ -0,0 +1,74 @@
+package com.game.engine;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Canonical store for the immutable tables games are compiled into. Games compiled through the same interner
+ * share one instance of every symbol table, combination table and {@link PatternMasks} whose content is equal,
+ * so paytable variants that only differ in multipliers or probabilities keep a single copy of the rest. Parts
+ * stay until {@link #retainOnly(Collection)} drops those no live game uses.
+ */
+public final class GameInterner {
+    private final ConcurrentHashMap<Key, Object> parts = new ConcurrentHashMap<>();
+
+    /**
+     * @return the number of distinct parts held
+     */
+    public int size() {
+        return parts.size();
+    }
+
+    /**
+     * Drops every part none of {@code games} uses, e.g. the tables of replaced or removed games. Games that still
+     * hold a dropped part keep working; later games simply stop sharing it. Must not run concurrently with a
+     * compile through this interner.
+     */
+    public void retainOnly(Collection<CompiledGame> games) {
+        Set<Object> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CompiledGame game : games) {
+            used.addAll(game.sharedParts());
+        }
+        parts.values().removeIf(part -> !used.contains(part));
+    }
+
+    /**
+     * @return the first interned value deeply equal to {@code value}, or {@code value} itself
+     */
+    <T> T intern(T value) {
+        return intern(new Object[]{value}, () -> value);
+    }
+
+    /**
+     * @return the part interned under a key deeply equal to {@code key}, creating it with {@code factory} if none
+     */
+    @SuppressWarnings("unchecked")
+    <T> T intern(Object[] key, Supplier<T> factory) {
+        return (T) parts.computeIfAbsent(new Key(key), ignored -> factory.get());
+    }
+
+    private static final class Key {
+        private final Object[] parts;
+        private final int hash;
+
+        private Key(Object[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.deepHashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.deepEquals(parts, ((Key) other).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
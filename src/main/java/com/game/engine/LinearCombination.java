@@ -0,0 +1,31 @@
+package com.game.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@AllArgsConstructor
+public final class LinearCombination {
+    @Getter
+    private final String name;
+    @Getter
+    private final double rewardMultiplier;
+    private final int[][] patterns;
+
+    /**
+     * @return a copy of the patterns as cell indexes; the compiled arrays may be shared between games
+     */
+    public int[][] getPatterns() {
+        int[][] copy = new int[patterns.length][];
+        for (int i = 0; i < patterns.length; i++) {
+            copy[i] = patterns[i].clone();
+        }
+        return copy;
+    }
+
+    // The compiled arrays themselves, for the engine; they must not be modified.
+    int[][] patterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,139 @@
+package com.game.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Linear patterns compiled to cell bitmasks. With one bitboard per symbol for the scored grid
+ * ({@code boards[symbolId * wordCount + word]}, bit {@code cell % 64} of word {@code cell / 64}), a pattern
+ * matches when the board of the symbol in its first cell covers the pattern mask, which is one AND and
+ * compare per 64 cells spanned however long the pattern is. Patterns are numbered in combination order; patterns
+ * that can never match any grid (see {@link ConfigAnalyzer}) are left out.
+ */
+public final class PatternMasks {
+    private final int wordCount;
+    private final int[] firstCells;
+    private final int[] fromWords;
+    private final int[] toWords;
+    private final long[] masks;
+    private final int[] linearIndexes;
+    private final int[] distinctCellCounts;
+    private final int minDistinctCellCount;
+    private final int[][] cellPatterns;
+
+    PatternMasks(List<LinearCombination> combinations, int cellCount, boolean hasStandardSymbols) {
+        this.wordCount = wordCount(cellCount);
+        int patternCount = combinations.stream()
+                .flatMap(combination -> Arrays.stream(combination.patterns()))
+                .mapToInt(pattern -> ConfigAnalyzer.isScored(pattern, hasStandardSymbols) ? 1 : 0)
+                .sum();
+        this.firstCells = new int[patternCount];
+        this.fromWords = new int[patternCount];
+        this.toWords = new int[patternCount];
+        this.masks = new long[patternCount * wordCount];
+        this.linearIndexes = new int[patternCount];
+        this.distinctCellCounts = new int[patternCount];
+        int[] cellPatternCounts = new int[cellCount];
+
+        int patternIndex = 0;
+        for (int linearIndex = 0; linearIndex < combinations.size(); linearIndex++) {
+            for (int[] pattern : combinations.get(linearIndex).patterns()) {
+                if (!ConfigAnalyzer.isScored(pattern, hasStandardSymbols)) {
+                    continue;
+                }
+                linearIndexes[patternIndex] = linearIndex;
+                firstCells[patternIndex] = pattern.length == 0 ? -1 : pattern[0];
+                int fromWord = wordCount;
+                int toWord = -1;
+                for (int cell : pattern) {
+                    int word = cell >>> 6;
+                    if ((masks[patternIndex * wordCount + word] & 1L << cell) == 0) {
+                        distinctCellCounts[patternIndex]++;
+                        cellPatternCounts[cell]++;
+                    }
+                    masks[patternIndex * wordCount + word] |= 1L << cell;
+                    fromWord = Math.min(fromWord, word);
+                    toWord = Math.max(toWord, word);
+                }
+                fromWords[patternIndex] = fromWord;
+                toWords[patternIndex] = toWord;
+                patternIndex++;
+            }
+        }
+
+        this.minDistinctCellCount = Arrays.stream(distinctCellCounts).min().orElse(Integer.MAX_VALUE);
+        this.cellPatterns = new int[cellCount][];
+        for (int cell = 0; cell < cellCount; cell++) {
+            cellPatterns[cell] = new int[cellPatternCounts[cell]];
+            cellPatternCounts[cell] = 0;
+        }
+        for (int pattern = 0; pattern < patternCount; pattern++) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                if ((masks[pattern * wordCount + (cell >>> 6)] & 1L << cell) != 0) {
+                    cellPatterns[cell][cellPatternCounts[cell]++] = pattern;
+                }
+            }
+        }
+    }
+
+    public static int wordCount(int cellCount) {
+        return Math.max(1, (cellCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getPatternCount() {
+        return firstCells.length;
+    }
+
+    /**
+     * @return index into {@link CompiledGame#getLinearCombinations()} of the combination the pattern belongs to
+     */
+    public int linearIndexOf(int patternIndex) {
+        return linearIndexes[patternIndex];
+    }
+
+    public int distinctCellCountOf(int patternIndex) {
+        return distinctCellCounts[patternIndex];
+    }
+
+    /**
+     * @return the fewest distinct cells any pattern covers, or {@link Integer#MAX_VALUE} if there are no patterns;
+     * a symbol occurring fewer times than this cannot complete any pattern
+     */
+    public int getMinDistinctCellCount() {
+        return minDistinctCellCount;
+    }
+
+    /**
+     * @return the patterns covering {@code cell}, each listed once; the returned array must not be modified
+     */
+    public int[] patternsAt(int cell) {
+        return cellPatterns[cell];
+    }
+
+    /**
+     * @return the symbol filling every cell of the pattern, or {@link CompiledGame#UNKNOWN_SYMBOL_ID} if the pattern
+     * is empty, starts on an unknown or bonus cell, or is broken by another symbol
+     */
+    public int matchingSymbol(int patternIndex, int[] cells, long[] boards, CompiledGame game) {
+        int firstCell = firstCells[patternIndex];
+        if (firstCell < 0) {
+            return CompiledGame.UNKNOWN_SYMBOL_ID;
+        }
+        int symbol = cells[firstCell];
+        if (symbol == CompiledGame.UNKNOWN_SYMBOL_ID || game.isBonus(symbol)) {
+            return CompiledGame.UNKNOWN_SYMBOL_ID;
+        }
+        int board = symbol * wordCount;
+        int mask = patternIndex * wordCount;
+        for (int word = fromWords[patternIndex]; word <= toWords[patternIndex]; word++) {
+            if ((boards[board + word] & masks[mask + word]) != masks[mask + word]) {
+                return CompiledGame.UNKNOWN_SYMBOL_ID;
+            }
+        }
+        return symbol;
+    }
+}
@@ -0,0 +1,15 @@
+package com.game.enums;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum AuditFormat {
+    NDJSON, CSV;
+
+    /**
+     * @return {@link #CSV} for a {@code .csv} file, {@link #NDJSON} otherwise
+     */
+    public static AuditFormat of(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+    }
+}
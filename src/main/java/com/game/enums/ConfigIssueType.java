@@ -0,0 +1,18 @@
+package com.game.enums;
+
+public enum ConfigIssueType {
+    INVALID_GRID,
+    INVALID_PROBABILITY_CELL,
+    UNKNOWN_SYMBOL,
+    UNKNOWN_BONUS_IMPACT,
+    UNKNOWN_CONDITION,
+    UNKNOWN_GROUP,
+    INVALID_COORDINATE,
+    EMPTY_PATTERN,
+    DUPLICATE_PATTERN,
+    DEAD_PATTERN,
+    UNREACHABLE_SAME_SYMBOL_COUNT,
+    SHADOWED_SAME_SYMBOL_COUNT,
+    DEAD_WIN_COMBINATION,
+    UNBOUNDED_PAYOUT
+}
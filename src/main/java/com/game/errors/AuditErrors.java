@@ -0,0 +1,14 @@
+package com.game.errors;
+
+public class AuditErrors {
+    public static final String INVALID_WORKER_COUNT = "Audit worker count must be positive.";
+    public static final String INVALID_CHUNK_SIZE = "Audit chunk size must be positive.";
+    public static final String INVALID_TICKET = "Ticket is not a JSON object.";
+    public static final String MISSING_MATRIX = "Ticket has no matrix.";
+    public static final String MISSING_REWARD = "Ticket has no claimed reward.";
+    public static final String INVALID_CELL_COUNT = "Ticket does not match the grid size of the game.";
+    public static final String INVALID_REWARD = "Claimed reward is not a finite number: ";
+
+    private AuditErrors() {
+    }
+}
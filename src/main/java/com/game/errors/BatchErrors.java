@@ -0,0 +1,12 @@
+package com.game.errors;
+
+public class BatchErrors {
+    public static final String INVALID_BATCH_CAPACITY = "Batch capacity must be positive.";
+    public static final String INVALID_TICKET_COUNT = "Ticket count must be positive and fit the batch capacity.";
+    public static final String BATCH_GAME_MISMATCH = "Ticket batch was created for a different game.";
+    public static final String BATCH_TOO_LARGE = "Batch does not fit in an array, capacity: ";
+    public static final String TICKET_OUT_OF_RANGE = "Ticket index out of range: ";
+
+    private BatchErrors() {
+    }
+}
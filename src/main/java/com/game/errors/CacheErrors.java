@@ -0,0 +1,9 @@
+package com.game.errors;
+
+public class CacheErrors {
+    public static final String INVALID_CACHE_CAPACITY = "Cache capacity must be greater than zero.";
+    public static final String INVALID_POOL_SIZE = "Pool size must be greater than zero.";
+
+    private CacheErrors() {
+    }
+}
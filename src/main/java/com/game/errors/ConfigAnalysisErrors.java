@@ -0,0 +1,22 @@
+package com.game.errors;
+
+public class ConfigAnalysisErrors {
+    public static final String INVALID_GRID = "Rows and columns must be positive.";
+    public static final String PROBABILITY_CELL_OUT_OF_GRID = "Probabilities address a cell outside the grid: ";
+    public static final String UNKNOWN_PROBABILITY_SYMBOL = "Probabilities reference an undefined symbol: ";
+    public static final String UNKNOWN_BONUS_IMPACT = "Bonus symbol has no known impact and never changes a reward: ";
+    public static final String UNKNOWN_CONDITION = "Unknown win condition: ";
+    public static final String UNKNOWN_GROUP = "Unknown linear group: ";
+    public static final String COORDINATE_OUT_OF_GRID = "Covered area coordinate is invalid or outside the grid: ";
+    public static final String EMPTY_PATTERN = "Covered area has no cells: ";
+    public static final String DUPLICATE_PATTERN = "Covered area is listed more than once and multiplies twice: ";
+    public static final String DEAD_PATTERN = "No standard symbol can fill every cell of covered area: ";
+    public static final String NON_POSITIVE_COUNT = "Same symbol count must be positive: ";
+    public static final String UNREACHABLE_COUNT = "No symbol can appear this many times: ";
+    public static final String SHADOWED_COUNT = "Another same symbol combination with this count replaces it: ";
+    public static final String NO_SCORED_PATTERNS = "Linear combination has no covered area that can ever match.";
+    public static final String UNBOUNDED_PAYOUT = "Maximum payout is not a finite number.";
+
+    private ConfigAnalysisErrors() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.game.errors;
+
+public class GameConfigErrors {
+    public static final String UNKNOWN_SYMBOL = "Unknown symbol: ";
+    public static final String INVALID_COVERED_AREA = "Invalid covered area coordinate: ";
+    public static final String CONTEXT_GAME_MISMATCH = "Scoring context was created for a different game.";
+    public static final String INVALID_MATRIX_SIZE = "Matrix size does not match the game configuration.";
+    public static final String CONFIG_RELOAD_FAILED = "Config reload failed, keeping version ";
+    public static final String UNKNOWN_CONFIG_FIELD = "Unknown config field: ";
+    public static final String INVALID_CONFIG_VALUE = "Invalid config value: ";
+    public static final String UNKNOWN_GAME = "Unknown game id: ";
+    public static final String INVALID_GAME_ID = "Game id must not be blank.";
+    public static final String GAME_RELOAD_FAILED = "Game reload failed, keeping the current version of ";
+
+    private GameConfigErrors() {
+    }
+}
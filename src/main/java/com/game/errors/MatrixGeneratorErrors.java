@@ -4,6 +4,8 @@ public class MatrixGeneratorErrors {
     public static final String NO_SYMBOL_SELECTED = "No symbol selected despite valid probabilities";
     public static final String INVALID_SYMBOL_POSITION = "Invalid row or column specified in probabilities.";
     public static final String INVALID_ROW_OR_COLUMNS = "Invalid row or column size.";
+    public static final String INVALID_SYMBOL_WEIGHT = "Symbol weights must be non-negative.";
+    public static final String MISSING_PROBABILITIES = "Game configuration has no symbol probabilities.";
 
     private MatrixGeneratorErrors() {
     }
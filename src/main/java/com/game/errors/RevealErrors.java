@@ -0,0 +1,9 @@
+package com.game.errors;
+
+public class RevealErrors {
+    public static final String CELL_OUT_OF_RANGE = "Cell index out of range: ";
+    public static final String INVALID_TICKET_SIZE = "Ticket cells do not match the game grid.";
+
+    private RevealErrors() {
+    }
+}
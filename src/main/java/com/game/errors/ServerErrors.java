@@ -0,0 +1,11 @@
+package com.game.errors;
+
+public class ServerErrors {
+    public static final String INVALID_REQUEST_BODY = "Request body must be a JSON object with a positive betting_amount.";
+    public static final String METHOD_NOT_ALLOWED = "Only POST is supported.";
+    public static final String METRICS_METHOD_NOT_ALLOWED = "Only GET is supported.";
+    public static final String TICKET_FAILED = "Ticket could not be generated.";
+
+    private ServerErrors() {
+    }
+}
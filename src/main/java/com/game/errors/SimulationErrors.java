@@ -0,0 +1,10 @@
+package com.game.errors;
+
+public class SimulationErrors {
+    public static final String INVALID_TICKET_COUNT = "Number of simulated tickets must be positive.";
+    public static final String INVALID_BETTING_AMOUNT = "Betting amount must be positive.";
+    public static final String EXACT_RTP_UNSUPPORTED = "Exact RTP is not supported for this configuration: ";
+
+    private SimulationErrors() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.game.errors;
+
+public class TicketBookErrors {
+    public static final String INVALID_TICKET_BOOK = "Not a valid ticket book: ";
+    public static final String TRUNCATED_TICKET_BOOK = "Ticket book is truncated: ";
+    public static final String CONFIG_MISMATCH = "Ticket book was written for a different game configuration.";
+    public static final String BET_MISMATCH = "Ticket betting amount does not match the ticket book: ";
+    public static final String TICKET_OUT_OF_RANGE = "Ticket index out of range: ";
+
+    private TicketBookErrors() {
+    }
+}
@@ -1,21 +1,18 @@
 package com.game.generator;
 
 import com.game.config.GameConfig;
-import com.game.model.BonusSymbolProbability;
-import com.game.model.Probability;
+import com.game.engine.CompiledGame;
 import com.game.model.StandardSymbolProbability;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 import static com.game.errors.MatrixGeneratorErrors.*;
 
 public final class MatrixGenerator {
+    private static final int BONUS_SYMBOL_ODDS = 10;
+    public static final double BONUS_SYMBOL_PROBABILITY = 1.0 / BONUS_SYMBOL_ODDS;
 
     private MatrixGenerator() {
         throw new UnsupportedOperationException("This class cannot be instantiated.");
@@ -23,88 +20,106 @@ public final class MatrixGenerator {
 
     public static String[][] generate(GameConfig config) {
         validateConfig(config);
-        String[][] matrix = new String[config.getRows()][config.getColumns()];
-
-        Map<String, Integer> symbolCounters = new HashMap<>();
-        Map<String, Integer> bonusSymbolCounters = new HashMap<>();
-
-        boolean bonusSymbolAssigned = false;
+        return generate(config, SymbolSamplers.of(config));
+    }
 
-        fillMatrixWithSymbols(config, matrix, symbolCounters, bonusSymbolCounters, bonusSymbolAssigned);
+    public static String[][] generate(GameConfig config, SymbolSamplers samplers) {
+        return generate(config, samplers, ThreadLocalRandom.current());
+    }
 
+    public static String[][] generate(GameConfig config, SymbolSamplers samplers, RandomGenerator random) {
+        String[][] matrix = new String[config.getRows()][config.getColumns()];
+        fillMatrixWithSymbols(samplers, matrix, random);
         return matrix;
     }
 
-    private static void validateConfig(GameConfig config) {
-        if (config.getRows() <= 0 || config.getColumns() <= 0) {
-            throw new IllegalArgumentException(INVALID_ROW_OR_COLUMNS);
-        }
+    public static String[][] generate(CompiledGame game) {
+        return game.decode(generateCells(game));
+    }
 
-        boolean invalidSymbolPosition = config.getProbabilities().getStandardSymbols().stream().anyMatch(probability -> isInvalidProbabilityRowsOrColumns(config, probability));
+    public static int[] generateCells(CompiledGame game) {
+        return generateCells(game, ThreadLocalRandom.current());
+    }
 
-        if (invalidSymbolPosition) {
-            throw new IllegalArgumentException(INVALID_SYMBOL_POSITION);
-        }
+    public static int[] generateCells(CompiledGame game, RandomGenerator random) {
+        int[] cells = new int[game.getCellCount()];
+        fillCells(game, cells, random);
+        return cells;
     }
 
-    private static boolean isInvalidProbabilityRowsOrColumns(GameConfig config, StandardSymbolProbability probability) {
-        return probability.getRow() < 0 || probability.getRow() >= config.getRows() || probability.getColumn() < 0 || probability.getColumn() >= config.getColumns();
+    public static void fillCells(CompiledGame game, int[] cells) {
+        fillCells(game, cells, ThreadLocalRandom.current());
     }
 
-    private static void fillMatrixWithSymbols(GameConfig config, String[][] matrix, Map<String, Integer> symbolCounters, Map<String, Integer> bonusSymbolCounters, boolean bonusSymbolAssigned) {
-        Probability probabilities = config.getProbabilities();
-        List<StandardSymbolProbability> standardSymbols = probabilities.getStandardSymbols();
+    /**
+     * Fills {@code cells} drawing every random number from {@code random}, so a seeded stream replays the same ticket.
+     */
+    public static void fillCells(CompiledGame game, int[] cells, RandomGenerator random) {
+        SymbolSamplers samplers = game.getSamplers();
+        if (samplers == null) {
+            throw new IllegalArgumentException(MISSING_PROBABILITIES);
+        }
+        Arrays.fill(cells, CompiledGame.UNKNOWN_SYMBOL_ID);
+        boolean bonusSymbolAssigned = !samplers.hasBonusSymbols();
 
-        for (StandardSymbolProbability symbolProbability : standardSymbols) {
-            String symbol = assignSymbol(symbolProbability, probabilities.getBonusSymbols(), symbolCounters, bonusSymbolCounters, bonusSymbolAssigned);
-            matrix[symbolProbability.getRow()][symbolProbability.getColumn()] = symbol;
-            if (symbol.equals(bonusSymbolCounters.keySet().stream().findFirst().orElse(null))) {
+        for (int i = 0; i < samplers.size(); i++) {
+            int symbolId;
+            if (!bonusSymbolAssigned && shouldAssignBonusSymbol(random)) {
+                symbolId = game.sampledBonusSymbolId(samplers.getBonusSampler().sampleIndex(random));
                 bonusSymbolAssigned = true;
+            } else {
+                symbolId = game.sampledSymbolId(i, samplers.standardSamplerAt(i).sampleIndex(random));
             }
+            cells[game.samplerCellAt(i)] = symbolId;
         }
     }
 
-    private static String assignSymbol(StandardSymbolProbability standardProbability, BonusSymbolProbability bonusProbability, Map<String, Integer> symbolCounters, Map<String, Integer> bonusSymbolCounters, boolean bonusSymbolAssigned) {
-        if (!bonusSymbolAssigned && shouldAssignBonusSymbol()) {
-            String bonusSymbol = generateBonusSymbol(bonusProbability);
-            bonusSymbolCounters.merge(bonusSymbol, 1, Integer::sum);
-            return bonusSymbol;
-        } else {
-            String normalSymbol = generateNormalSymbol(standardProbability);
-            symbolCounters.merge(normalSymbol, 1, Integer::sum);
-            return normalSymbol;
+    /**
+     * Generates ticket #{@code ticket} of a seeded run. Tickets draw in order from stream
+     * {@code ticket / TICKETS_PER_STREAM}, so the tickets before it in that stream are generated and discarded first.
+     */
+    public static int[] generateSeededCells(CompiledGame game, long seed, long ticket) {
+        RandomGenerator random = RandomStreams.stream(seed, ticket / RandomStreams.TICKETS_PER_STREAM);
+        int[] cells = new int[game.getCellCount()];
+        for (long skipped = ticket % RandomStreams.TICKETS_PER_STREAM; skipped > 0; skipped--) {
+            fillCells(game, cells, random);
         }
+        fillCells(game, cells, random);
+        return cells;
     }
 
+    public static void validateConfig(GameConfig config) {
+        if (config.getRows() <= 0 || config.getColumns() <= 0) {
+            throw new IllegalArgumentException(INVALID_ROW_OR_COLUMNS);
+        }
 
-    private static boolean shouldAssignBonusSymbol() {
-        return ThreadLocalRandom.current().nextInt(0, 10) < 1;
-    }
-
-    private static String generateBonusSymbol(BonusSymbolProbability bonusProbability) {
-        Map<Integer, String> weightedSymbols = createWeightedSymbolMap(bonusProbability.getSymbols());
-        return selectSymbolBasedOnProbability(weightedSymbols);
-    }
+        boolean invalidSymbolPosition = config.getProbabilities().getStandardSymbols().stream().anyMatch(probability -> isInvalidProbabilityRowsOrColumns(config, probability));
 
-    private static String generateNormalSymbol(StandardSymbolProbability standardProbability) {
-        Map<Integer, String> weightedSymbols = createWeightedSymbolMap(standardProbability.getSymbols());
-        return selectSymbolBasedOnProbability(weightedSymbols);
+        if (invalidSymbolPosition) {
+            throw new IllegalArgumentException(INVALID_SYMBOL_POSITION);
+        }
     }
 
-    private static Map<Integer, String> createWeightedSymbolMap(Map<String, Integer> symbols) {
-        return symbols.entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+    private static boolean isInvalidProbabilityRowsOrColumns(GameConfig config, StandardSymbolProbability probability) {
+        return probability.getRow() < 0 || probability.getRow() >= config.getRows() || probability.getColumn() < 0 || probability.getColumn() >= config.getColumns();
     }
 
-    private static String selectSymbolBasedOnProbability(Map<Integer, String> probMap) {
-        int totalWeight = probMap.keySet().stream().mapToInt(Integer::intValue).sum();
-        int randomizedValue = ThreadLocalRandom.current().nextInt(1, totalWeight + 1);
+    private static void fillMatrixWithSymbols(SymbolSamplers samplers, String[][] matrix, RandomGenerator random) {
+        boolean bonusSymbolAssigned = !samplers.hasBonusSymbols();
 
-        return probMap.entrySet().stream().filter(aboveRandomThreshold(randomizedValue)).findFirst().map(Map.Entry::getValue).orElseThrow(() -> new IllegalArgumentException(NO_SYMBOL_SELECTED));
+        for (int i = 0; i < samplers.size(); i++) {
+            String symbol;
+            if (!bonusSymbolAssigned && shouldAssignBonusSymbol(random)) {
+                symbol = samplers.getBonusSampler().sample(random);
+                bonusSymbolAssigned = true;
+            } else {
+                symbol = samplers.standardSamplerAt(i).sample(random);
+            }
+            matrix[samplers.rowAt(i)][samplers.columnAt(i)] = symbol;
+        }
     }
 
-
-    private static Predicate<Map.Entry<Integer, String>> aboveRandomThreshold(int threshold) {
-        final AtomicInteger cumulativeProbability = new AtomicInteger(0);
-        return entry -> cumulativeProbability.addAndGet(entry.getKey()) >= threshold;
+    private static boolean shouldAssignBonusSymbol(RandomGenerator random) {
+        return random.nextInt(0, BONUS_SYMBOL_ODDS) < 1;
     }
 }
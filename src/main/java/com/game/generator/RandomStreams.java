@@ -0,0 +1,31 @@
+package com.game.generator;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Seed-derived random streams for reproducible generation. Stream {@code n} of a seed depends only on the
+ * seed and {@code n}, so a simulation chunk or a block of {@value #TICKETS_PER_STREAM} exported tickets can be
+ * replayed on its own, on any thread, without replaying the streams before it.
+ */
+public final class RandomStreams {
+    public static final String ALGORITHM = "L64X128MixRandom";
+    private static final RandomGeneratorFactory<RandomGenerator.SplittableGenerator> FACTORY = RandomGeneratorFactory.of(ALGORITHM);
+    public static final int TICKETS_PER_STREAM = 1024;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private RandomStreams() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    public static RandomGenerator.SplittableGenerator stream(long seed, long streamIndex) {
+        return FACTORY.create(mix64(seed + GOLDEN_GAMMA * (streamIndex + 1)));
+    }
+
+    // Stafford variant 13 of the MurmurHash3 finalizer, as used by SplittableRandom.
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,67 @@
+package com.game.generator;
+
+import com.game.config.GameConfig;
+import com.game.model.BonusSymbolProbability;
+import com.game.model.StandardSymbolProbability;
+
+import java.util.List;
+
+public final class SymbolSamplers {
+    private final int[] rows;
+    private final int[] columns;
+    private final WeightedSymbolSampler[] standardSamplers;
+    private final WeightedSymbolSampler bonusSampler;
+
+    private SymbolSamplers(int[] rows, int[] columns, WeightedSymbolSampler[] standardSamplers, WeightedSymbolSampler bonusSampler) {
+        this.rows = rows;
+        this.columns = columns;
+        this.standardSamplers = standardSamplers;
+        this.bonusSampler = bonusSampler;
+    }
+
+    public static SymbolSamplers of(GameConfig config) {
+        List<StandardSymbolProbability> standardSymbols = config.getProbabilities().getStandardSymbols();
+        int size = standardSymbols.size();
+        int[] rows = new int[size];
+        int[] columns = new int[size];
+        WeightedSymbolSampler[] standardSamplers = new WeightedSymbolSampler[size];
+
+        for (int i = 0; i < size; i++) {
+            StandardSymbolProbability probability = standardSymbols.get(i);
+            rows[i] = probability.getRow();
+            columns[i] = probability.getColumn();
+            standardSamplers[i] = WeightedSymbolSampler.of(probability.getSymbols());
+        }
+
+        BonusSymbolProbability bonusSymbols = config.getProbabilities().getBonusSymbols();
+        WeightedSymbolSampler bonusSampler = bonusSymbols == null || bonusSymbols.getSymbols() == null || bonusSymbols.getSymbols().isEmpty()
+                ? null
+                : WeightedSymbolSampler.of(bonusSymbols.getSymbols());
+
+        return new SymbolSamplers(rows, columns, standardSamplers, bonusSampler);
+    }
+
+    public int size() {
+        return standardSamplers.length;
+    }
+
+    public int rowAt(int index) {
+        return rows[index];
+    }
+
+    public int columnAt(int index) {
+        return columns[index];
+    }
+
+    public WeightedSymbolSampler standardSamplerAt(int index) {
+        return standardSamplers[index];
+    }
+
+    public WeightedSymbolSampler getBonusSampler() {
+        return bonusSampler;
+    }
+
+    public boolean hasBonusSymbols() {
+        return bonusSampler != null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.game.generator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static com.game.errors.MatrixGeneratorErrors.INVALID_SYMBOL_WEIGHT;
+import static com.game.errors.MatrixGeneratorErrors.NO_SYMBOL_SELECTED;
+
+/**
+ * Walker/Vose alias table over integer weights. Thresholds are kept in units of the total weight,
+ * so every draw is exact and costs one bounded int plus one bounded long.
+ */
+public final class WeightedSymbolSampler {
+    private final String[] symbols;
+    private final long[] weights;
+    private final long[] thresholds;
+    private final int[] aliases;
+    private final long totalWeight;
+
+    private WeightedSymbolSampler(String[] symbols, long[] weights, long[] thresholds, int[] aliases, long totalWeight) {
+        this.symbols = symbols;
+        this.weights = weights;
+        this.thresholds = thresholds;
+        this.aliases = aliases;
+        this.totalWeight = totalWeight;
+    }
+
+    public static WeightedSymbolSampler of(Map<String, Integer> weights) {
+        int size = weights.size();
+        String[] symbols = new String[size];
+        long[] scaled = new long[size];
+        long[] symbolWeights = new long[size];
+        long totalWeight = 0;
+
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Integer weight = entry.getValue();
+            if (weight == null || weight < 0) {
+                throw new IllegalArgumentException(INVALID_SYMBOL_WEIGHT);
+            }
+            symbols[index] = entry.getKey();
+            symbolWeights[index] = weight;
+            scaled[index] = (long) weight * size;
+            totalWeight += weight;
+            index++;
+        }
+
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException(NO_SYMBOL_SELECTED);
+        }
+
+        long[] thresholds = new long[size];
+        int[] aliases = new int[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            aliases[i] = i;
+            (scaled[i] < totalWeight ? small : large).push(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            thresholds[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] -= totalWeight - scaled[less];
+            (scaled[more] < totalWeight ? small : large).push(more);
+        }
+        while (!large.isEmpty()) {
+            thresholds[large.pop()] = totalWeight;
+        }
+        while (!small.isEmpty()) {
+            thresholds[small.pop()] = totalWeight;
+        }
+
+        return new WeightedSymbolSampler(symbols, symbolWeights, thresholds, aliases, totalWeight);
+    }
+
+    public String sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    public String sample(RandomGenerator random) {
+        return symbols[sampleIndex(random)];
+    }
+
+    public int sampleIndex() {
+        return sampleIndex(ThreadLocalRandom.current());
+    }
+
+    public int sampleIndex(RandomGenerator random) {
+        int column = random.nextInt(symbols.length);
+        return random.nextLong(totalWeight) < thresholds[column] ? column : aliases[column];
+    }
+
+    public int size() {
+        return symbols.length;
+    }
+
+    public String symbolAt(int index) {
+        return symbols[index];
+    }
+
+    public double probabilityAt(int index) {
+        return weights[index] / (double) totalWeight;
+    }
+}
@@ -0,0 +1,295 @@
+package com.game.metrics;
+
+import com.game.calculator.ScoreCache;
+import com.game.calculator.ScoringContext;
+import com.game.engine.CompiledGame;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hot-path counters and latency histograms for ticket generation and scoring, shared by every thread.
+ * <p>
+ * Instrumented code checks {@link #isEnabled()} once per ticket (or per batch) before reading the clock, so a
+ * disabled instance costs one volatile read. Recording only touches {@link LongAdder}s and preallocated histogram
+ * buckets; combination and bonus counters are keyed by the names the compiled game already holds, so a config
+ * reload keeps counting into the same series.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+    public static final String OBJECT_NAME = "com.game:type=GameMetrics";
+
+    private volatile boolean enabled;
+    private volatile long startNanos = System.nanoTime();
+    private final LongAdder tickets = new LongAdder();
+    private final LongAdder winningTickets = new LongAdder();
+    private final LongAdder bonusTickets = new LongAdder();
+    private final LatencyHistogram generationNanos = new LatencyHistogram();
+    private final LatencyHistogram scoringNanos = new LatencyHistogram();
+    private final LatencyHistogram configLoadNanos = new LatencyHistogram();
+    private final ConcurrentHashMap<String, LongAdder> combinationHits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> bonusSymbolHits = new ConcurrentHashMap<>();
+    private volatile ScoreCache scoreCache;
+
+    public GameMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Exports the counters of the cache scoring goes through; the cache keeps counting on its own.
+     */
+    public void setScoreCache(ScoreCache scoreCache) {
+        this.scoreCache = scoreCache;
+    }
+
+    public void recordGeneration(long nanos) {
+        generationNanos.record(nanos);
+    }
+
+    public void recordScoring(long nanos) {
+        scoringNanos.record(nanos);
+    }
+
+    public void recordConfigLoad(long nanos) {
+        configLoadNanos.record(nanos);
+    }
+
+    /**
+     * Counts a ticket scored into {@code context} and the combinations and bonus applied to it.
+     */
+    public void recordTicket(double reward, ScoringContext context) {
+        CompiledGame game = context.getGame();
+        tickets.increment();
+        if (context.isWinning()) {
+            winningTickets.increment();
+        }
+        for (int i = 0; i < context.getAppliedCount(); i++) {
+            counter(combinationHits, game.winCombinationName(context.appliedCombinationAt(i))).increment();
+        }
+        if (context.getAppliedBonusSymbol() != CompiledGame.UNKNOWN_SYMBOL_ID) {
+            bonusTickets.increment();
+            counter(bonusSymbolHits, game.symbolName(context.getAppliedBonusSymbol())).increment();
+        }
+    }
+
+    @Override
+    public long getTickets() {
+        return tickets.sum();
+    }
+
+    @Override
+    public long getWinningTickets() {
+        return winningTickets.sum();
+    }
+
+    /**
+     * @return tickets recorded per second since creation or the last {@link #reset()}
+     */
+    @Override
+    public double getTicketsPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0.0 : tickets.sum() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    @Override
+    public double getBonusHitRate() {
+        long ticketCount = tickets.sum();
+        return ticketCount == 0 ? 0.0 : bonusTickets.sum() / (double) ticketCount;
+    }
+
+    @Override
+    public long getGenerationP50Nanos() {
+        return generationNanos.percentile(50);
+    }
+
+    @Override
+    public long getGenerationP99Nanos() {
+        return generationNanos.percentile(99);
+    }
+
+    @Override
+    public long getGenerationMaxNanos() {
+        return generationNanos.getMax();
+    }
+
+    @Override
+    public long getScoringP50Nanos() {
+        return scoringNanos.percentile(50);
+    }
+
+    @Override
+    public long getScoringP99Nanos() {
+        return scoringNanos.percentile(99);
+    }
+
+    @Override
+    public long getScoringMaxNanos() {
+        return scoringNanos.getMax();
+    }
+
+    @Override
+    public long getConfigLoads() {
+        return configLoadNanos.getCount();
+    }
+
+    @Override
+    public long getConfigLoadMaxNanos() {
+        return configLoadNanos.getMax();
+    }
+
+    @Override
+    public Map<String, Long> getCombinationHits() {
+        return snapshot(combinationHits);
+    }
+
+    @Override
+    public Map<String, Long> getBonusSymbolHits() {
+        return snapshot(bonusSymbolHits);
+    }
+
+    public LatencyHistogram getGenerationNanos() {
+        return generationNanos;
+    }
+
+    public LatencyHistogram getScoringNanos() {
+        return scoringNanos;
+    }
+
+    @Override
+    public void reset() {
+        tickets.reset();
+        winningTickets.reset();
+        bonusTickets.reset();
+        generationNanos.reset();
+        scoringNanos.reset();
+        configLoadNanos.reset();
+        combinationHits.clear();
+        bonusSymbolHits.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Registers this instance with the platform MBean server under {@value #OBJECT_NAME}, replacing any
+     * previous registration.
+     */
+    public ObjectName registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        return name;
+    }
+
+    /**
+     * @return the metrics in the Prometheus text exposition format, one HELP/TYPE header per metric family
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder(2048);
+        header(text, "scratch_metrics_enabled", "gauge", "1 when recording is enabled.");
+        line(text, "scratch_metrics_enabled", enabled ? 1 : 0);
+        header(text, "scratch_tickets_total", "counter", "Tickets scored.");
+        line(text, "scratch_tickets_total", getTickets());
+        header(text, "scratch_winning_tickets_total", "counter", "Tickets with at least one winning combination.");
+        line(text, "scratch_winning_tickets_total", getWinningTickets());
+        header(text, "scratch_tickets_per_second", "gauge", "Tickets scored per second since the last reset.");
+        line(text, "scratch_tickets_per_second", getTicketsPerSecond());
+        header(text, "scratch_bonus_hit_rate", "gauge", "Share of tickets with an applied bonus symbol.");
+        line(text, "scratch_bonus_hit_rate", getBonusHitRate());
+        histogram(text, "scratch_generation_nanos", "Ticket generation latency in nanoseconds.", generationNanos);
+        histogram(text, "scratch_scoring_nanos", "Ticket scoring latency in nanoseconds.", scoringNanos);
+        histogram(text, "scratch_config_load_nanos", "Config load latency in nanoseconds.", configLoadNanos);
+        header(text, "scratch_combination_hits_total", "counter", "Winning combinations applied, once per symbol that completes one.");
+        getCombinationHits().forEach((name, hits) ->
+                line(text, "scratch_combination_hits_total{combination=\"" + escapeLabel(name) + "\"}", hits));
+        header(text, "scratch_bonus_symbol_hits_total", "counter", "Tickets with each applied bonus symbol.");
+        getBonusSymbolHits().forEach((name, hits) ->
+                line(text, "scratch_bonus_symbol_hits_total{symbol=\"" + escapeLabel(name) + "\"}", hits));
+        ScoreCache cache = scoreCache;
+        if (cache != null) {
+            cache(text, cache);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Escapes a label value as the exposition format requires: backslash, double quote and line feed.
+     */
+    static String escapeLabel(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '"' -> escaped.append("\\\"");
+                case '\n' -> escaped.append("\\n");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static LongAdder counter(ConcurrentHashMap<String, LongAdder> counters, String name) {
+        // get() first: the steady state never takes computeIfAbsent's bin lock.
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    private static void histogram(StringBuilder text, String name, String help, LatencyHistogram histogram) {
+        header(text, name, "summary", help);
+        line(text, name + "{quantile=\"0.5\"}", histogram.percentile(50));
+        line(text, name + "{quantile=\"0.9\"}", histogram.percentile(90));
+        line(text, name + "{quantile=\"0.99\"}", histogram.percentile(99));
+        line(text, name + "{quantile=\"0.999\"}", histogram.percentile(99.9));
+        line(text, name + "_sum", histogram.getSum());
+        line(text, name + "_count", histogram.getCount());
+        // A summary family only allows quantiles, _sum and _count, so the maximum is its own gauge.
+        header(text, name + "_max", "gauge", "Maximum of " + Character.toLowerCase(help.charAt(0)) + help.substring(1));
+        line(text, name + "_max", histogram.getMax());
+    }
+
+    private static void cache(StringBuilder text, ScoreCache cache) {
+        header(text, "scratch_cache_capacity", "gauge", "Score cache capacity in entries.");
+        line(text, "scratch_cache_capacity", cache.getCapacity());
+        header(text, "scratch_cache_size", "gauge", "Score cache entries in use.");
+        line(text, "scratch_cache_size", cache.size());
+        header(text, "scratch_cache_hits_total", "counter", "Tickets scored from the cache.");
+        line(text, "scratch_cache_hits_total", cache.getHits());
+        header(text, "scratch_cache_misses_total", "counter", "Cacheable tickets scored in full.");
+        line(text, "scratch_cache_misses_total", cache.getMisses());
+        header(text, "scratch_cache_evictions_total", "counter", "Entries evicted to make room.");
+        line(text, "scratch_cache_evictions_total", cache.getEvictions());
+    }
+
+    private static void header(StringBuilder text, String name, String type, String help) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void line(StringBuilder text, String name, Object value) {
+        text.append(name).append(' ').append(value).append('\n');
+    }
+}
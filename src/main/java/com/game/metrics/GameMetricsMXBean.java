@@ -0,0 +1,45 @@
+package com.game.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link GameMetrics}. Latencies are in nanoseconds.
+ */
+public interface GameMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getTickets();
+
+    long getWinningTickets();
+
+    double getTicketsPerSecond();
+
+    double getBonusHitRate();
+
+    long getGenerationP50Nanos();
+
+    long getGenerationP99Nanos();
+
+    long getGenerationMaxNanos();
+
+    long getScoringP50Nanos();
+
+    long getScoringP99Nanos();
+
+    long getScoringMaxNanos();
+
+    long getConfigLoads();
+
+    long getConfigLoadMaxNanos();
+
+    /**
+     * @return applications per winning combination; two symbols completing the same combination count twice
+     */
+    Map<String, Long> getCombinationHits();
+
+    Map<String, Long> getBonusSymbolHits();
+
+    void reset();
+}
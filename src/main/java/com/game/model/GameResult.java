@@ -1,6 +1,8 @@
 package com.game.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.game.engine.CompiledGame;
 import lombok.*;
 
 import java.util.List;
@@ -9,7 +11,6 @@ import java.util.Map;
 @Getter
 @Setter
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 public class GameResult {
     private String[][] matrix;
@@ -19,4 +20,34 @@ public class GameResult {
     private Map<String, List<String>> appliedCombinations;
     @JsonProperty("applied_bonus_symbol")
     private String appliedBonusSymbol;
+    @JsonProperty("config_version")
+    private long configVersion;
+    @JsonIgnore
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private int[] cells;
+    @JsonIgnore
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private CompiledGame game;
+
+    public GameResult(String[][] matrix, double totalReward, Map<String, List<String>> appliedCombinations, String appliedBonusSymbol) {
+        this.matrix = matrix;
+        this.totalReward = totalReward;
+        this.appliedCombinations = appliedCombinations;
+        this.appliedBonusSymbol = appliedBonusSymbol;
+    }
+
+    public String[][] getMatrix() {
+        if (matrix == null && cells != null) {
+            matrix = game.decode(cells);
+        }
+        return matrix;
+    }
+
+    public void setCells(int[] cells, CompiledGame game) {
+        this.cells = cells;
+        this.game = game;
+        this.matrix = null;
+    }
 }
@@ -0,0 +1,220 @@
+package com.game.output;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.game.calculator.ScoringContext;
+import com.game.engine.CompiledGame;
+import com.game.model.GameResult;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams tickets as JSON straight to an output stream through a single reused {@link JsonGenerator}.
+ * Every ticket is terminated by a newline, so the compact form is NDJSON. Rewards are written with two
+ * decimals rounded up, matching {@code BigDecimal.setScale(2, CEILING)} without allocating one per ticket.
+ */
+public final class GameResultWriter implements Closeable, Flushable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    // Beyond this the cent count no longer fits exactly in a double.
+    private static final double MAX_FAST_REWARD = 1e13;
+    private static final int CENT_TOLERANCE_ULPS = 4;
+
+    private final JsonGenerator generator;
+    private final char[] rewardBuffer = new char[24];
+
+    private GameResultWriter(OutputStream output, boolean pretty) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        generator.setPrettyPrinter(pretty ? new DefaultPrettyPrinter() : new MinimalPrettyPrinter(""));
+    }
+
+    public static GameResultWriter ndjson(OutputStream output) throws IOException {
+        return new GameResultWriter(output, false);
+    }
+
+    public static GameResultWriter pretty(OutputStream output) throws IOException {
+        return new GameResultWriter(output, true);
+    }
+
+    public void write(GameResult gameResult) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("matrix");
+        generator.writeStartArray();
+        for (String[] row : gameResult.getMatrix()) {
+            generator.writeStartArray();
+            for (String symbol : row) {
+                generator.writeString(symbol);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+        writeReward(gameResult.getTotalReward());
+
+        generator.writeFieldName("applied_winning_combinations");
+        generator.writeStartObject();
+        Map<String, List<String>> appliedCombinations = gameResult.getAppliedCombinations();
+        if (appliedCombinations != null) {
+            for (Map.Entry<String, List<String>> entry : appliedCombinations.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeStartArray();
+                for (String combination : entry.getValue()) {
+                    generator.writeString(combination);
+                }
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+
+        generator.writeStringField("applied_bonus_symbol", gameResult.getAppliedBonusSymbol());
+        generator.writeNumberField("config_version", gameResult.getConfigVersion());
+        endTicket();
+    }
+
+    /**
+     * Writes a ticket scored by {@code WinningCombinationCalculator#calculateReward} straight from its
+     * cells and scoring context, without building a {@link GameResult}.
+     */
+    public void write(int[] cells, double reward, ScoringContext context) throws IOException {
+        CompiledGame game = context.getGame();
+        generator.writeStartObject();
+        generator.writeFieldName("matrix");
+        generator.writeStartArray();
+        for (int row = 0; row < game.getRows(); row++) {
+            generator.writeStartArray();
+            for (int column = 0; column < game.getColumns(); column++) {
+                int symbolId = cells[row * game.getColumns() + column];
+                generator.writeString(symbolId == CompiledGame.UNKNOWN_SYMBOL_ID ? null : game.symbolName(symbolId));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+        writeReward(reward);
+
+        // Applied pairs are few; grouping them by symbol in place avoids building a map per ticket.
+        generator.writeFieldName("applied_winning_combinations");
+        generator.writeStartObject();
+        int appliedCount = context.getAppliedCount();
+        for (int i = 0; i < appliedCount; i++) {
+            int symbolId = context.appliedSymbolAt(i);
+            if (isGroupedEarlier(context, i, symbolId)) {
+                continue;
+            }
+            generator.writeFieldName(game.symbolName(symbolId));
+            generator.writeStartArray();
+            for (int j = i; j < appliedCount; j++) {
+                if (context.appliedSymbolAt(j) == symbolId) {
+                    generator.writeString(game.winCombinationName(context.appliedCombinationAt(j)));
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+
+        int bonusSymbol = context.getAppliedBonusSymbol();
+        generator.writeStringField("applied_bonus_symbol", bonusSymbol == CompiledGame.UNKNOWN_SYMBOL_ID ? null : game.symbolName(bonusSymbol));
+        generator.writeNumberField("config_version", game.getVersion());
+        endTicket();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private static boolean isGroupedEarlier(ScoringContext context, int index, int symbolId) {
+        for (int i = 0; i < index; i++) {
+            if (context.appliedSymbolAt(i) == symbolId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void endTicket() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeReward(double reward) throws IOException {
+        generator.writeFieldName("reward");
+        if (Double.isFinite(reward) && Math.abs(reward) < MAX_FAST_REWARD) {
+            int length = formatReward(reward, rewardBuffer);
+            generator.writeNumber(rewardBuffer, 0, length);
+        } else {
+            generator.writeNumber(BigDecimal.valueOf(reward).setScale(2, RoundingMode.CEILING));
+        }
+    }
+
+    /**
+     * @return whether {@code written}, a reward read back from a ticket, is {@code reward} as this writer formats it
+     */
+    public static boolean isWrittenReward(double written, double reward) {
+        if (Double.isFinite(reward) && Math.abs(reward) < MAX_FAST_REWARD && Math.abs(written) < MAX_FAST_REWARD) {
+            return Math.round(written * 100) == cents(reward);
+        }
+        return BigDecimal.valueOf(written).setScale(2, RoundingMode.HALF_UP)
+                .compareTo(BigDecimal.valueOf(reward).setScale(2, RoundingMode.CEILING)) == 0;
+    }
+
+    /**
+     * Formats {@code reward} as {@code BigDecimal.valueOf(reward).setScale(2, CEILING)} would, into {@code buffer}.
+     */
+    static int formatReward(double reward, char[] buffer) {
+        long cents = cents(reward);
+
+        int length = 0;
+        if (cents < 0) {
+            buffer[length++] = '-';
+            cents = -cents;
+        }
+        long units = cents / 100;
+        int fraction = (int) (cents % 100);
+
+        int start = length;
+        do {
+            buffer[length++] = (char) ('0' + units % 10);
+            units /= 10;
+        } while (units > 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            char digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+        buffer[length++] = '.';
+        buffer[length++] = (char) ('0' + fraction / 10);
+        buffer[length++] = (char) ('0' + fraction % 10);
+        return length;
+    }
+
+    /**
+     * {@code BigDecimal.valueOf(reward).setScale(2, CEILING)} in cents. The product {@code reward * 100} is off by up
+     * to an ulp, so it is only trusted away from whole cents. A reward that is exactly a cent value takes the fast
+     * path, and one just beside a whole cent (e.g. {@code 3 * 1.2 * 3 = 10.799999999999999}) goes to BigDecimal.
+     */
+    private static long cents(double reward) {
+        double scaled = reward * 100;
+        double nearest = Math.rint(scaled);
+        if (nearest / 100 == reward) {
+            return (long) nearest;
+        }
+        if (Math.abs(scaled - nearest) > CENT_TOLERANCE_ULPS * Math.ulp(scaled)) {
+            return (long) Math.ceil(scaled);
+        }
+        return BigDecimal.valueOf(reward).setScale(2, RoundingMode.CEILING).unscaledValue().longValue();
+    }
+}
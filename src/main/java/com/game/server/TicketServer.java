@@ -0,0 +1,253 @@
+package com.game.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.calculator.ScoreCache;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.ScoringContextPool;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.GameRegistry;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.metrics.GameMetrics;
+import com.game.output.GameResultWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.game.errors.ServerErrors.INVALID_REQUEST_BODY;
+import static com.game.errors.ServerErrors.METHOD_NOT_ALLOWED;
+import static com.game.errors.ServerErrors.METRICS_METHOD_NOT_ALLOWED;
+import static com.game.errors.ServerErrors.TICKET_FAILED;
+
+public final class TicketServer implements AutoCloseable {
+    static final String PLAY_PATH = "/play";
+    static final String METRICS_PATH = "/metrics";
+    private static final String BETTING_AMOUNT = "betting_amount";
+    private static final String GAME_ID = "game_id";
+    private static final String DEFAULT_GAME = "";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; version=0.0.4";
+    private static final int BACKLOG = 4096;
+    private static final int RESPONSE_BUFFER_SIZE = 512;
+
+    private final Function<String, CompiledGame> games;
+    private final boolean namedGames;
+    private final Predicate<String> servedGameIds;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WinningCombinationCalculator calculator;
+    private final GameMetrics metrics;
+    // One pool per game id, so requests for different games do not evict each other's contexts. A pool is
+    // replaced with its game, so contexts of a reloaded or unregistered game are not kept alive.
+    private final Map<String, GameContexts> contexts = new ConcurrentHashMap<>();
+
+    public TicketServer(CompiledGame game, int port) throws IOException {
+        this(() -> game, port);
+    }
+
+    /**
+     * Serves tickets from whatever game the supplier returns; each request reads it once, so a config
+     * swap never splits a ticket across versions.
+     */
+    public TicketServer(Supplier<CompiledGame> games, int port) throws IOException {
+        this(games, port, null);
+    }
+
+    /**
+     * Scores tickets through {@code cache} when it is not {@code null}; entries of a replaced config version simply
+     * stop matching and age out.
+     */
+    public TicketServer(Supplier<CompiledGame> games, int port, ScoreCache cache) throws IOException {
+        this(games, port, cache, new GameMetrics(false));
+    }
+
+    /**
+     * Records generation and scoring latencies and ticket counters into {@code metrics} while it is enabled and
+     * serves them as text on {@value #METRICS_PATH}.
+     */
+    public TicketServer(Supplier<CompiledGame> games, int port, ScoreCache cache, GameMetrics metrics) throws IOException {
+        this(gameId -> games.get(), false, gameId -> true, port, cache, metrics);
+    }
+
+    /**
+     * Serves every game of {@code registry}; each request names its game with a {@code game_id} field and an
+     * unknown id is answered with 404.
+     */
+    public TicketServer(GameRegistry registry, int port, ScoreCache cache, GameMetrics metrics) throws IOException {
+        this(registry::get, true, registry::contains, port, cache, metrics);
+    }
+
+    private TicketServer(Function<String, CompiledGame> games, boolean namedGames, Predicate<String> servedGameIds, int port,
+                         ScoreCache cache, GameMetrics metrics) throws IOException {
+        this.games = games;
+        this.namedGames = namedGames;
+        this.servedGameIds = servedGameIds;
+        this.calculator = new WinningCombinationCalculator(cache);
+        this.metrics = metrics;
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = newRequestExecutor();
+        server.createContext(PLAY_PATH, this::handlePlay);
+        server.createContext(METRICS_PATH, this::handleMetrics);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    // Virtual threads are only available from JDK 21; older runtimes fall back to a bounded platform pool.
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+    }
+
+    private void handlePlay(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, METHOD_NOT_ALLOWED);
+                return;
+            }
+
+            JsonNode request;
+            double bettingAmount;
+            try {
+                request = objectMapper.readTree(exchange.getRequestBody());
+                bettingAmount = readBettingAmount(request);
+            } catch (IllegalArgumentException | IOException e) {
+                sendError(exchange, 400, INVALID_REQUEST_BODY);
+                return;
+            }
+
+            String gameId = request.path(GAME_ID).isTextual() ? request.get(GAME_ID).asText() : null;
+            CompiledGame game;
+            try {
+                game = games.apply(gameId);
+            } catch (IllegalArgumentException e) {
+                if (gameId != null) {
+                    contexts.remove(gameId);
+                }
+                sendError(exchange, 404, e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, TICKET_FAILED);
+                return;
+            }
+            ScoringContextPool pool = pool(namedGames ? gameId : DEFAULT_GAME, game);
+            ScoringContext context = pool.acquire(game);
+            byte[] response;
+            try {
+                boolean measured = metrics.isEnabled();
+                long start = measured ? System.nanoTime() : 0L;
+                int[] cells = MatrixGenerator.generateCells(game);
+                long generated = measured ? System.nanoTime() : 0L;
+                double reward = calculator.calculateReward(cells, bettingAmount, game, context);
+                if (measured) {
+                    metrics.recordGeneration(generated - start);
+                    metrics.recordScoring(System.nanoTime() - generated);
+                    metrics.recordTicket(reward, context);
+                }
+                response = toResponse(cells, reward, context);
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, TICKET_FAILED);
+                return;
+            } finally {
+                pool.release(context);
+            }
+            send(exchange, 200, JSON_CONTENT_TYPE, response);
+        }
+    }
+
+    private ScoringContextPool pool(String key, CompiledGame game) {
+        GameContexts current = contexts.get(key);
+        if (current != null && current.game == game) {
+            return current.pool;
+        }
+        GameContexts replaced = contexts.compute(key, (id, existing) -> existing != null && existing.game == game
+                ? existing
+                : new GameContexts(game, new ScoringContextPool(Runtime.getRuntime().availableProcessors() * 4)));
+        // A new game version is rare; drop the pools of games that are no longer served along with it.
+        contexts.keySet().removeIf(id -> !servedGameIds.test(id));
+        return replaced.pool;
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, METRICS_METHOD_NOT_ALLOWED);
+                return;
+            }
+            send(exchange, 200, TEXT_CONTENT_TYPE, metrics.toText().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static double readBettingAmount(JsonNode request) {
+        JsonNode bettingAmount = request == null ? null : request.get(BETTING_AMOUNT);
+        if (bettingAmount == null || !bettingAmount.isNumber() || bettingAmount.asDouble() <= 0) {
+            throw new IllegalArgumentException(INVALID_REQUEST_BODY);
+        }
+        return bettingAmount.asDouble();
+    }
+
+    // Game ids that currently hold a context pool.
+    Set<String> pooledGameIds() {
+        return Set.copyOf(contexts.keySet());
+    }
+
+    private static final class GameContexts {
+        private final CompiledGame game;
+        private final ScoringContextPool pool;
+
+        private GameContexts(CompiledGame game, ScoringContextPool pool) {
+            this.game = game;
+            this.pool = pool;
+        }
+    }
+
+    static byte[] toResponse(int[] cells, double reward, ScoringContext context) throws IOException {
+        ByteArrayOutputStream response = new ByteArrayOutputStream(RESPONSE_BUFFER_SIZE);
+        try (GameResultWriter writer = GameResultWriter.ndjson(response)) {
+            writer.write(cells, reward, context);
+        }
+        return response.toByteArray();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, JSON_CONTENT_TYPE, objectMapper.writeValueAsBytes(Map.of("error", message)));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package com.game.simulation;
+
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.engine.LinearCombination;
+import com.game.enums.BonusImpact;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.SymbolSamplers;
+import com.game.generator.WeightedSymbolSampler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.game.errors.MatrixGeneratorErrors.MISSING_PROBABILITIES;
+import static com.game.errors.SimulationErrors.EXACT_RTP_UNSUPPORTED;
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+
+/**
+ * Computes the exact expected payout of a {@link CompiledGame} instead of sampling it.
+ * <p>
+ * The reward is a sum of independent per-symbol terms, so the analytical path enumerates, per bonus
+ * placement and per symbol, only the subsets of cells that symbol can occupy, and derives the win
+ * probability needed for extra bonuses from a capped symbol-count DP. Configs outside its assumptions
+ * fall back to weighted enumeration of every grid when the outcome space is small enough.
+ */
+public final class ExactRtpCalculator {
+    private static final int MAX_ENUMERATED_CELLS = 24;
+    private static final int MAX_COUNT_STATES = 1 << 22;
+    private static final double MAX_ENUMERATED_OUTCOMES = 20_000_000;
+
+    public ExactRtpReport calculate(CompiledGame game, double bettingAmount) {
+        validate(game, bettingAmount);
+        long start = System.nanoTime();
+
+        OutcomeModel model = new OutcomeModel(game);
+        ExactRtpReport.Method method;
+        double[] result;
+        if (model.supportsAnalyticalSolution()) {
+            method = ExactRtpReport.Method.ANALYTICAL;
+            result = solveAnalytically(model, bettingAmount);
+        } else if (countOutcomes(game.getSamplers()) <= MAX_ENUMERATED_OUTCOMES) {
+            method = ExactRtpReport.Method.ENUMERATION;
+            result = enumerate(game, bettingAmount);
+        } else {
+            throw new IllegalArgumentException(EXACT_RTP_UNSUPPORTED + model.unsupportedReason);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new ExactRtpReport(method, bettingAmount, result[0], result[0] / bettingAmount, result[1], elapsedMillis);
+    }
+
+    ExactRtpReport calculateByEnumeration(CompiledGame game, double bettingAmount) {
+        validate(game, bettingAmount);
+        double[] result = enumerate(game, bettingAmount);
+        return new ExactRtpReport(ExactRtpReport.Method.ENUMERATION, bettingAmount, result[0], result[0] / bettingAmount, result[1], 0);
+    }
+
+    private static void validate(CompiledGame game, double bettingAmount) {
+        if (bettingAmount <= 0) {
+            throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+        }
+        if (game.getSamplers() == null) {
+            throw new IllegalArgumentException(MISSING_PROBABILITIES);
+        }
+    }
+
+    private static double[] solveAnalytically(OutcomeModel model, double bettingAmount) {
+        int scenarios = model.scenarioCells.length;
+        int symbols = model.standardSymbols.length;
+
+        double[] expectedRewards = new double[scenarios];
+        double[] symbolTerms = IntStream.range(0, scenarios * symbols).parallel()
+                .mapToDouble(task -> model.expectedSymbolTerm(model.scenarioCells[task / symbols], model.standardSymbols[task % symbols]))
+                .toArray();
+        for (int task = 0; task < symbolTerms.length; task++) {
+            expectedRewards[task / symbols] += symbolTerms[task] * bettingAmount;
+        }
+        double[] winProbabilities = IntStream.range(0, scenarios).parallel()
+                .mapToDouble(scenario -> 1.0 - model.noWinProbability(model.scenarioCells[scenario]))
+                .toArray();
+
+        double expectedPayout = 0.0;
+        double hitRate = 0.0;
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            double payout = model.scenarioCells[scenario] < 0
+                    ? expectedRewards[scenario]
+                    : model.expectedPayoutWithBonus(expectedRewards[scenario], winProbabilities[scenario]);
+            expectedPayout += model.scenarioProbabilities[scenario] * payout;
+            hitRate += model.scenarioProbabilities[scenario] * winProbabilities[scenario];
+        }
+        return new double[]{expectedPayout, hitRate};
+    }
+
+    private static double countOutcomes(SymbolSamplers samplers) {
+        int bonus = samplers.hasBonusSymbols() ? samplers.getBonusSampler().size() : 0;
+        double bonusAssigned = 1.0;
+        double bonusPending = 1.0;
+        for (int i = samplers.size() - 1; i >= 0; i--) {
+            int standard = samplers.standardSamplerAt(i).size();
+            bonusPending = standard * bonusPending + bonus * bonusAssigned;
+            bonusAssigned = standard * bonusAssigned;
+        }
+        return bonusPending;
+    }
+
+    private static double[] enumerate(CompiledGame game, double bettingAmount) {
+        SymbolSamplers samplers = game.getSamplers();
+        if (samplers.size() == 0) {
+            return new Enumeration(game, bettingAmount).run(0, false, 1.0);
+        }
+
+        WeightedSymbolSampler first = samplers.standardSamplerAt(0);
+        int bonusBranches = samplers.hasBonusSymbols() ? samplers.getBonusSampler().size() : 0;
+        double standardProbability = samplers.hasBonusSymbols() ? 1.0 - MatrixGenerator.BONUS_SYMBOL_PROBABILITY : 1.0;
+
+        return IntStream.range(0, first.size() + bonusBranches).parallel()
+                .mapToObj(branch -> {
+                    Enumeration enumeration = new Enumeration(game, bettingAmount);
+                    if (branch < first.size()) {
+                        enumeration.cells[game.samplerCellAt(0)] = game.sampledSymbolId(0, branch);
+                        return enumeration.run(1, false, standardProbability * first.probabilityAt(branch));
+                    }
+                    int bonus = branch - first.size();
+                    enumeration.cells[game.samplerCellAt(0)] = game.sampledBonusSymbolId(bonus);
+                    return enumeration.run(1, true, MatrixGenerator.BONUS_SYMBOL_PROBABILITY * samplers.getBonusSampler().probabilityAt(bonus));
+                })
+                .reduce(new double[2], (left, right) -> new double[]{left[0] + right[0], left[1] + right[1]});
+    }
+
+    private static final class Enumeration {
+        private final CompiledGame game;
+        private final SymbolSamplers samplers;
+        private final double bettingAmount;
+        private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        private final ScoringContext context;
+        private final int[] cells;
+        private double expectedPayout;
+        private double hitRate;
+
+        private Enumeration(CompiledGame game, double bettingAmount) {
+            this.game = game;
+            this.samplers = game.getSamplers();
+            this.bettingAmount = bettingAmount;
+            this.context = new ScoringContext(game);
+            this.cells = new int[game.getCellCount()];
+            Arrays.fill(cells, CompiledGame.UNKNOWN_SYMBOL_ID);
+        }
+
+        private double[] run(int sampler, boolean bonusAssigned, double probability) {
+            visit(sampler, bonusAssigned || !samplers.hasBonusSymbols(), probability);
+            return new double[]{expectedPayout, hitRate};
+        }
+
+        private void visit(int sampler, boolean bonusAssigned, double probability) {
+            if (probability == 0.0) {
+                return;
+            }
+            if (sampler == samplers.size()) {
+                double reward = calculator.calculateReward(cells, bettingAmount, game, context);
+                expectedPayout += probability * reward;
+                if (context.isWinning()) {
+                    hitRate += probability;
+                }
+                return;
+            }
+
+            int cell = game.samplerCellAt(sampler);
+            WeightedSymbolSampler standard = samplers.standardSamplerAt(sampler);
+            double standardProbability = bonusAssigned ? probability : probability * (1.0 - MatrixGenerator.BONUS_SYMBOL_PROBABILITY);
+            for (int i = 0; i < standard.size(); i++) {
+                cells[cell] = game.sampledSymbolId(sampler, i);
+                visit(sampler + 1, bonusAssigned, standardProbability * standard.probabilityAt(i));
+            }
+            if (!bonusAssigned) {
+                WeightedSymbolSampler bonus = samplers.getBonusSampler();
+                for (int i = 0; i < bonus.size(); i++) {
+                    cells[cell] = game.sampledBonusSymbolId(i);
+                    visit(sampler + 1, true, probability * MatrixGenerator.BONUS_SYMBOL_PROBABILITY * bonus.probabilityAt(i));
+                }
+            }
+        }
+    }
+
+    private static final class OutcomeModel {
+        private final CompiledGame game;
+        private final double[][] cellProbabilities;
+        private final double[] bonusProbabilities;
+        private final int[] standardSymbols;
+        private final int[] scenarioCells;
+        private final double[] scenarioProbabilities;
+        private final List<int[]> patterns = new ArrayList<>();
+        private final List<Double> patternMultipliers = new ArrayList<>();
+        private int minSameSymbolCount;
+        private String unsupportedReason;
+
+        private OutcomeModel(CompiledGame game) {
+            this.game = game;
+            SymbolSamplers samplers = game.getSamplers();
+            int cellCount = game.getCellCount();
+            this.cellProbabilities = new double[cellCount][game.getSymbolCount()];
+            this.bonusProbabilities = new double[game.getSymbolCount()];
+
+            boolean[] coveredCells = new boolean[cellCount];
+            boolean[] standardSymbolSeen = new boolean[game.getSymbolCount()];
+            for (int sampler = 0; sampler < samplers.size(); sampler++) {
+                int cell = game.samplerCellAt(sampler);
+                if (coveredCells[cell]) {
+                    unsupported("more than one probability entry for a cell");
+                }
+                coveredCells[cell] = true;
+                WeightedSymbolSampler standard = samplers.standardSamplerAt(sampler);
+                for (int i = 0; i < standard.size(); i++) {
+                    int symbolId = game.sampledSymbolId(sampler, i);
+                    if (game.isBonus(symbolId)) {
+                        unsupported("bonus symbols in standard symbol probabilities");
+                    }
+                    cellProbabilities[cell][symbolId] += standard.probabilityAt(i);
+                    standardSymbolSeen[symbolId] |= standard.probabilityAt(i) > 0.0;
+                }
+            }
+            this.standardSymbols = IntStream.range(0, standardSymbolSeen.length).filter(id -> standardSymbolSeen[id]).toArray();
+
+            if (samplers.hasBonusSymbols()) {
+                WeightedSymbolSampler bonus = samplers.getBonusSampler();
+                for (int i = 0; i < bonus.size(); i++) {
+                    int symbolId = game.sampledBonusSymbolId(i);
+                    if (!game.isBonus(symbolId) && bonus.probabilityAt(i) > 0.0) {
+                        unsupported("standard symbols in bonus symbol probabilities");
+                    }
+                    bonusProbabilities[symbolId] += bonus.probabilityAt(i);
+                }
+                int scenarios = samplers.size() + 1;
+                this.scenarioCells = new int[scenarios];
+                this.scenarioProbabilities = new double[scenarios];
+                double noBonusYet = 1.0;
+                for (int sampler = 0; sampler < samplers.size(); sampler++) {
+                    scenarioCells[sampler] = game.samplerCellAt(sampler);
+                    scenarioProbabilities[sampler] = noBonusYet * MatrixGenerator.BONUS_SYMBOL_PROBABILITY;
+                    noBonusYet *= 1.0 - MatrixGenerator.BONUS_SYMBOL_PROBABILITY;
+                }
+                scenarioCells[samplers.size()] = -1;
+                scenarioProbabilities[samplers.size()] = noBonusYet;
+            } else {
+                this.scenarioCells = new int[]{-1};
+                this.scenarioProbabilities = new double[]{1.0};
+            }
+
+            if (game.getSameSymbolCombinationCount() == 0) {
+                unsupported("no same symbol combinations");
+                return;
+            }
+            this.minSameSymbolCount = game.sameSymbolCountAt(0);
+            if (minSameSymbolCount < 2) {
+                unsupported("same symbol combinations below two symbols");
+            }
+
+            for (LinearCombination combination : game.getLinearCombinations()) {
+                for (int[] pattern : combination.getPatterns()) {
+                    if (pattern.length == 0) {
+                        continue;
+                    }
+                    if (pattern.length < minSameSymbolCount) {
+                        unsupported("linear patterns shorter than the smallest same symbol combination");
+                    }
+                    patterns.add(pattern);
+                    patternMultipliers.add(combination.getRewardMultiplier());
+                }
+            }
+
+            for (int symbolId : standardSymbols) {
+                int candidates = 0;
+                for (double[] probabilities : cellProbabilities) {
+                    candidates += probabilities[symbolId] > 0.0 ? 1 : 0;
+                }
+                if (candidates > MAX_ENUMERATED_CELLS) {
+                    unsupported("more than " + MAX_ENUMERATED_CELLS + " candidate cells for symbol " + game.symbolName(symbolId));
+                }
+            }
+            if (Math.pow(minSameSymbolCount, standardSymbols.length) > MAX_COUNT_STATES) {
+                unsupported("too many symbol count states");
+            }
+        }
+
+        private void unsupported(String reason) {
+            if (unsupportedReason == null) {
+                unsupportedReason = reason;
+            }
+        }
+
+        private boolean supportsAnalyticalSolution() {
+            return unsupportedReason == null;
+        }
+
+        private double expectedSymbolTerm(int excludedCell, int symbolId) {
+            int[] candidateCells = new int[cellProbabilities.length];
+            int[] candidateIndex = new int[cellProbabilities.length];
+            Arrays.fill(candidateIndex, -1);
+            int candidates = 0;
+            for (int cell = 0; cell < cellProbabilities.length; cell++) {
+                if (cell != excludedCell && cellProbabilities[cell][symbolId] > 0.0) {
+                    candidateIndex[cell] = candidates;
+                    candidateCells[candidates++] = cell;
+                }
+            }
+
+            List<Integer> masks = new ArrayList<>();
+            List<Double> multipliers = new ArrayList<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                int mask = 0;
+                for (int cell : patterns.get(i)) {
+                    if (candidateIndex[cell] < 0) {
+                        mask = -1;
+                        break;
+                    }
+                    mask |= 1 << candidateIndex[cell];
+                }
+                if (mask != -1) {
+                    masks.add(mask);
+                    multipliers.add(patternMultipliers.get(i));
+                }
+            }
+
+            SubsetWalk walk = new SubsetWalk(symbolId, candidateCells, candidates,
+                    masks.stream().mapToInt(Integer::intValue).toArray(),
+                    multipliers.stream().mapToDouble(Double::doubleValue).toArray());
+            walk.visit(0, 0, 0, 1.0);
+            return walk.expectedTerm;
+        }
+
+        private double noWinProbability(int excludedCell) {
+            int radix = minSameSymbolCount;
+            int symbols = standardSymbols.length;
+            int[] place = new int[symbols];
+            int states = 1;
+            for (int i = 0; i < symbols; i++) {
+                place[i] = states;
+                states *= radix;
+            }
+
+            double[] current = new double[states];
+            double[] next = new double[states];
+            current[0] = 1.0;
+            for (int cell = 0; cell < cellProbabilities.length; cell++) {
+                if (cell == excludedCell) {
+                    continue;
+                }
+                double[] probabilities = cellProbabilities[cell];
+                Arrays.fill(next, 0.0);
+                boolean covered = false;
+                for (int i = 0; i < symbols; i++) {
+                    double probability = probabilities[standardSymbols[i]];
+                    if (probability == 0.0) {
+                        continue;
+                    }
+                    covered = true;
+                    for (int state = 0; state < states; state++) {
+                        if (current[state] != 0.0 && (state / place[i]) % radix + 1 < radix) {
+                            next[state + place[i]] += current[state] * probability;
+                        }
+                    }
+                }
+                if (covered) {
+                    double[] swap = current;
+                    current = next;
+                    next = swap;
+                }
+            }
+            return Arrays.stream(current).sum();
+        }
+
+        private double expectedPayoutWithBonus(double expectedReward, double winProbability) {
+            double payout = 0.0;
+            for (int symbolId = 0; symbolId < bonusProbabilities.length; symbolId++) {
+                double probability = bonusProbabilities[symbolId];
+                if (probability == 0.0) {
+                    continue;
+                }
+                BonusImpact impact = game.bonusImpact(symbolId);
+                if (impact == BonusImpact.MULTIPLY_REWARD) {
+                    payout += probability * game.applyBonus(symbolId, expectedReward);
+                } else if (impact == BonusImpact.EXTRA_BONUS) {
+                    payout += probability * (expectedReward + game.applyBonus(symbolId, 0.0) * winProbability);
+                } else {
+                    payout += probability * expectedReward;
+                }
+            }
+            return payout;
+        }
+
+        private final class SubsetWalk {
+            private final int symbolId;
+            private final int[] candidateCells;
+            private final int candidates;
+            private final int[] patternMasks;
+            private final double[] multipliers;
+            private double expectedTerm;
+
+            private SubsetWalk(int symbolId, int[] candidateCells, int candidates, int[] patternMasks, double[] multipliers) {
+                this.symbolId = symbolId;
+                this.candidateCells = candidateCells;
+                this.candidates = candidates;
+                this.patternMasks = patternMasks;
+                this.multipliers = multipliers;
+            }
+
+            private void visit(int index, int mask, int count, double probability) {
+                if (count + candidates - index < minSameSymbolCount || probability == 0.0) {
+                    return;
+                }
+                if (index == candidates) {
+                    expectedTerm += probability * sameSymbolScore(count) * linearScore(mask);
+                    return;
+                }
+                double present = cellProbabilities[candidateCells[index]][symbolId];
+                visit(index + 1, mask | 1 << index, count + 1, probability * present);
+                visit(index + 1, mask, count, probability * (1.0 - present));
+            }
+
+            private double sameSymbolScore(int count) {
+                return game.sameSymbolCombinationFor(count) < 0 ? 0.0 : game.sameSymbolMultiplierFor(count) * game.rewardMultiplier(symbolId);
+            }
+
+            private double linearScore(int mask) {
+                double score = 1.0;
+                for (int i = 0; i < patternMasks.length; i++) {
+                    if ((mask & patternMasks[i]) == patternMasks[i]) {
+                        score *= multipliers[i];
+                    }
+                }
+                return score;
+            }
+        }
+    }
+}
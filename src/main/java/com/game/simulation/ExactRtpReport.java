@@ -0,0 +1,22 @@
+package com.game.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class ExactRtpReport {
+    private final Method method;
+    private final double bettingAmount;
+    private final double expectedPayout;
+    private final double returnToPlayer;
+    // Probability that a win combination applies, see ScoringContext#isWinning.
+    private final double hitRate;
+    private final long elapsedMillis;
+
+    public enum Method {
+        ANALYTICAL, ENUMERATION
+    }
+}
@@ -0,0 +1,182 @@
+package com.game.simulation;
+
+import com.game.calculator.ScoreCache;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
+import com.game.metrics.GameMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+import static com.game.errors.SimulationErrors.INVALID_TICKET_COUNT;
+
+public final class RtpSimulator {
+    private static final long DEFAULT_CHUNK_SIZE = 50_000;
+
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+    private final ScoreCache cache;
+    private final GameMetrics metrics;
+
+    public RtpSimulator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public RtpSimulator(ScoreCache cache) {
+        this(cache, null);
+    }
+
+    public RtpSimulator(ScoreCache cache, GameMetrics metrics) {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, cache, metrics);
+    }
+
+    public RtpSimulator(ForkJoinPool pool, long chunkSize) {
+        this(pool, chunkSize, null);
+    }
+
+    /**
+     * Scores through {@code cache}, shared by every chunk; rewards are identical to an uncached run.
+     */
+    public RtpSimulator(ForkJoinPool pool, long chunkSize, ScoreCache cache) {
+        this(pool, chunkSize, cache, null);
+    }
+
+    /**
+     * Also records per-ticket generation and scoring latencies into {@code metrics}; whether it is enabled is
+     * read once per chunk, so a disabled or {@code null} instance leaves the ticket loop untimed.
+     */
+    public RtpSimulator(ForkJoinPool pool, long chunkSize, ScoreCache cache, GameMetrics metrics) {
+        this.pool = pool;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    public SimulationReport simulate(CompiledGame game, long tickets, double bettingAmount) {
+        return simulate(game, tickets, bettingAmount, null);
+    }
+
+    /**
+     * Seeded run: every chunk draws from {@link RandomStreams#stream(long, long)} keyed by its first ticket, so the
+     * report is identical for the same seed and chunk size whatever the pool's parallelism.
+     */
+    public SimulationReport simulate(CompiledGame game, long tickets, double bettingAmount, long seed) {
+        return simulate(game, tickets, bettingAmount, Long.valueOf(seed));
+    }
+
+    private SimulationReport simulate(CompiledGame game, long tickets, double bettingAmount, Long seed) {
+        if (tickets <= 0) {
+            throw new IllegalArgumentException(INVALID_TICKET_COUNT);
+        }
+        if (bettingAmount <= 0) {
+            throw new IllegalArgumentException(INVALID_BETTING_AMOUNT);
+        }
+
+        long start = System.nanoTime();
+        SimulationStats stats = pool.invoke(new SimulationTask(game, cache, metrics, bettingAmount, seed, 0, tickets, chunkSize));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        return toReport(game, stats, bettingAmount, elapsedMillis);
+    }
+
+    private static SimulationReport toReport(CompiledGame game, SimulationStats stats, double bettingAmount, long elapsedMillis) {
+        long tickets = stats.getTickets();
+        double mean = stats.getTotalPayout() / tickets;
+        double variance = Math.max(0.0, stats.getTotalPayoutSquares() / tickets - mean * mean);
+
+        Map<String, Long> combinationHits = new LinkedHashMap<>();
+        for (int i = 0; i < game.getWinCombinationCount(); i++) {
+            combinationHits.merge(game.winCombinationName(i), stats.combinationHitsAt(i), Long::sum);
+        }
+        Map<String, Long> bonusSymbolHits = new LinkedHashMap<>();
+        for (int symbolId = 0; symbolId < game.getSymbolCount(); symbolId++) {
+            if (game.isBonus(symbolId)) {
+                bonusSymbolHits.put(game.symbolName(symbolId), stats.bonusSymbolHitsAt(symbolId));
+            }
+        }
+
+        return new SimulationReport(tickets, bettingAmount, stats.getTotalPayout(),
+                stats.getTotalPayout() / (tickets * bettingAmount),
+                stats.getWinningTickets() / (double) tickets,
+                variance, stats.getMaxWin(), combinationHits, bonusSymbolHits, elapsedMillis);
+    }
+
+    private static final class SimulationTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final CompiledGame game;
+        private final ScoreCache cache;
+        private final GameMetrics metrics;
+        private final double bettingAmount;
+        private final Long seed;
+        private final long from;
+        private final long to;
+        private final long chunkSize;
+
+        private SimulationTask(CompiledGame game, ScoreCache cache, GameMetrics metrics, double bettingAmount, Long seed,
+                               long from, long to, long chunkSize) {
+            this.game = game;
+            this.cache = cache;
+            this.metrics = metrics;
+            this.bettingAmount = bettingAmount;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= chunkSize) {
+                return play();
+            }
+            long middle = from + (to - from) / 2;
+            SimulationTask left = new SimulationTask(game, cache, metrics, bettingAmount, seed, from, middle, chunkSize);
+            SimulationTask right = new SimulationTask(game, cache, metrics, bettingAmount, seed, middle, to, chunkSize);
+            left.fork();
+            SimulationStats stats = right.compute();
+            return stats.merge(left.join());
+        }
+
+        private SimulationStats play() {
+            WinningCombinationCalculator calculator = new WinningCombinationCalculator(cache);
+            ScoringContext context = new ScoringContext(game);
+            SimulationStats stats = new SimulationStats(game);
+            int[] cells = new int[game.getCellCount()];
+            RandomGenerator random = seed == null ? ThreadLocalRandom.current() : RandomStreams.stream(seed, from);
+            if (metrics != null && metrics.isEnabled()) {
+                return playMeasured(calculator, context, stats, cells, random);
+            }
+
+            for (long ticket = from; ticket < to; ticket++) {
+                MatrixGenerator.fillCells(game, cells, random);
+                double reward = calculator.calculateReward(cells, bettingAmount, game, context);
+                stats.record(reward, context);
+            }
+            return stats;
+        }
+
+        private SimulationStats playMeasured(WinningCombinationCalculator calculator, ScoringContext context,
+                                             SimulationStats stats, int[] cells, RandomGenerator random) {
+            for (long ticket = from; ticket < to; ticket++) {
+                long start = System.nanoTime();
+                MatrixGenerator.fillCells(game, cells, random);
+                long generated = System.nanoTime();
+                double reward = calculator.calculateReward(cells, bettingAmount, game, context);
+                metrics.recordScoring(System.nanoTime() - generated);
+                metrics.recordGeneration(generated - start);
+                metrics.recordTicket(reward, context);
+                stats.record(reward, context);
+            }
+            return stats;
+        }
+    }
+}
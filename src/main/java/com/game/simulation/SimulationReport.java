@@ -0,0 +1,28 @@
+package com.game.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class SimulationReport {
+    private final long tickets;
+    private final double bettingAmount;
+    private final double totalPayout;
+    private final double returnToPlayer;
+    // Share of tickets on which a win combination applied, see ScoringContext#isWinning.
+    private final double hitRate;
+    private final double variance;
+    private final double maxWin;
+    private final Map<String, Long> combinationHits;
+    private final Map<String, Long> bonusSymbolHits;
+    private final long elapsedMillis;
+
+    public double combinationFrequency(String combinationName) {
+        return tickets == 0 ? 0.0 : combinationHits.getOrDefault(combinationName, 0L) / (double) tickets;
+    }
+}
@@ -0,0 +1,80 @@
+package com.game.simulation;
+
+import com.game.calculator.ScoringContext;
+import com.game.engine.CompiledGame;
+
+final class SimulationStats {
+    private long tickets;
+    private long winningTickets;
+    private double totalPayout;
+    private double totalPayoutSquares;
+    private double maxWin;
+    private final long[] combinationHits;
+    private final long[] bonusSymbolHits;
+
+    SimulationStats(CompiledGame game) {
+        this.combinationHits = new long[game.getWinCombinationCount()];
+        this.bonusSymbolHits = new long[game.getSymbolCount()];
+    }
+
+    void record(double reward, ScoringContext context) {
+        tickets++;
+        totalPayout += reward;
+        totalPayoutSquares += reward * reward;
+        if (context.isWinning()) {
+            winningTickets++;
+        }
+        if (reward > maxWin) {
+            maxWin = reward;
+        }
+        for (int i = 0; i < context.getAppliedCount(); i++) {
+            combinationHits[context.appliedCombinationAt(i)]++;
+        }
+        if (context.getAppliedBonusSymbol() != CompiledGame.UNKNOWN_SYMBOL_ID) {
+            bonusSymbolHits[context.getAppliedBonusSymbol()]++;
+        }
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        tickets += other.tickets;
+        winningTickets += other.winningTickets;
+        totalPayout += other.totalPayout;
+        totalPayoutSquares += other.totalPayoutSquares;
+        maxWin = Math.max(maxWin, other.maxWin);
+        for (int i = 0; i < combinationHits.length; i++) {
+            combinationHits[i] += other.combinationHits[i];
+        }
+        for (int i = 0; i < bonusSymbolHits.length; i++) {
+            bonusSymbolHits[i] += other.bonusSymbolHits[i];
+        }
+        return this;
+    }
+
+    long getTickets() {
+        return tickets;
+    }
+
+    long getWinningTickets() {
+        return winningTickets;
+    }
+
+    double getTotalPayout() {
+        return totalPayout;
+    }
+
+    double getTotalPayoutSquares() {
+        return totalPayoutSquares;
+    }
+
+    double getMaxWin() {
+        return maxWin;
+    }
+
+    long combinationHitsAt(int combinationIndex) {
+        return combinationHits[combinationIndex];
+    }
+
+    long bonusSymbolHitsAt(int symbolId) {
+        return bonusSymbolHits[symbolId];
+    }
+}
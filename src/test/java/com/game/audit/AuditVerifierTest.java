@@ -0,0 +1,159 @@
+package com.game.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.enums.AuditFormat;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
+import com.game.output.GameResultWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.game.errors.AuditErrors.INVALID_CELL_COUNT;
+import static com.game.errors.AuditErrors.INVALID_WORKER_COUNT;
+import static com.game.errors.AuditErrors.MISSING_REWARD;
+import static com.game.errors.GameConfigErrors.UNKNOWN_SYMBOL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditVerifierTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testVerify_ExportedTickets_AllMatch(@TempDir Path directory) throws Exception {
+        Path input = directory.resolve("tickets.ndjson");
+        Path mismatches = directory.resolve("mismatches.ndjson");
+        Files.write(input, exportTickets(5_000, 100));
+
+        AuditReport report = new AuditVerifier(3, 64).verify(game, 100, input, mismatches);
+
+        assertEquals(5_000, report.getTickets());
+        assertEquals(5_000, report.getMatched());
+        assertTrue(report.isClean());
+        assertEquals(report.getActualPayout(), report.getClaimedPayout(), 5_000 * 0.01);
+        assertEquals(0, Files.size(mismatches));
+    }
+
+    @Test
+    void testVerify_TamperedNdjson_WritesOnlyMismatchesAndMalformedLines() throws Exception {
+        String[] lines = new String(exportTickets(200, 10), StandardCharsets.UTF_8).split("\n");
+        JsonNode tampered = objectMapper.readTree(lines[41]);
+        double actualReward = tampered.get("reward").asDouble();
+        lines[41] = lines[41].replaceFirst("\"reward\":[0-9.]+", "\"reward\":" + (actualReward + 1));
+        lines[99] = "{\"matrix\":[[\"A\",\"A\",\"A\"],[\"B\",\"C\",\"D\"],[\"E\",\"F\",\"10x\"]]}";
+        lines[150] = "";
+
+        StringWriter output = new StringWriter();
+        AuditReport report = new AuditVerifier(2, 16).verify(game, 10, reader(String.join("\n", lines)), AuditFormat.NDJSON, output);
+
+        assertEquals(199, report.getTickets());
+        assertEquals(197, report.getMatched());
+        assertEquals(1, report.getMismatched());
+        assertEquals(1, report.getMalformed());
+        List<JsonNode> records = records(output);
+        assertEquals(2, records.size());
+        JsonNode mismatch = records.stream().filter(record -> record.get("line").asInt() == 42).findFirst().orElseThrow();
+        assertEquals(actualReward + 1, mismatch.get("claimed_reward").asDouble());
+        assertTrue(GameResultWriter.isWrittenReward(actualReward, mismatch.get("actual_reward").asDouble()));
+        JsonNode malformed = records.stream().filter(record -> record.get("line").asInt() == 100).findFirst().orElseThrow();
+        assertEquals(MISSING_REWARD, malformed.get("error").asText());
+    }
+
+    @Test
+    void testVerify_Csv_SkipsHeaderAndUsesPerTicketBet() throws Exception {
+        String csv = String.join("\n",
+                "c0,c1,c2,c3,c4,c5,c6,c7,c8,reward,betting_amount",
+                "A,A,A,B,C,D,E,F,10x,10000.00",
+                "A,A,A,B,C,D,E,F,10x,1000,10",
+                "A,A,A,B,C,D,E,F,10x,1",
+                "A,A,A,B,C,D,E,F,10x",
+                "A,A,A,B,C,D,E,F,ZZZ,0");
+        StringWriter output = new StringWriter();
+
+        AuditReport report = new AuditVerifier(1, 2).verify(game, 100, reader(csv), AuditFormat.CSV, output);
+
+        assertEquals(5, report.getTickets());
+        assertEquals(2, report.getMatched());
+        assertEquals(1, report.getMismatched());
+        assertEquals(2, report.getMalformed());
+        List<JsonNode> records = records(output);
+        assertEquals(List.of(4, 5, 6), records.stream().map(record -> record.get("line").asInt()).sorted().toList());
+        assertTrue(records.stream().anyMatch(record -> INVALID_CELL_COUNT.equals(record.path("error").asText())));
+        assertTrue(records.stream().anyMatch(record -> record.path("error").asText().startsWith(UNKNOWN_SYMBOL)));
+    }
+
+    @Test
+    void testVerify_RewardJustBelowWholeCent_MatchesBigDecimalClaim() throws Exception {
+        String[][] matrix = {{"E", "A", "E"}, {"B", "E", "C"}, {"D", "F", "MISS"}};
+        double actualReward = new WinningCombinationCalculator().calculateWinningsCombination(matrix, 9, game).getTotalReward();
+        String claim = BigDecimal.valueOf(actualReward).setScale(2, RoundingMode.CEILING).toPlainString();
+        String csv = "E,A,E,B,E,C,D,F,MISS," + claim + ",9";
+        StringWriter output = new StringWriter();
+
+        AuditReport report = new AuditVerifier(1, 4).verify(game, 100, reader(csv), AuditFormat.CSV, output);
+
+        assertEquals(10.799999999999999, actualReward);
+        assertEquals("10.80", claim);
+        assertTrue(GameResultWriter.isWrittenReward(Double.parseDouble(claim), actualReward));
+        assertEquals(1, report.getMatched());
+        assertTrue(report.isClean());
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    void testConstructor_NoWorkers_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new AuditVerifier(0, 16));
+
+        assertEquals(INVALID_WORKER_COUNT, exception.getMessage());
+    }
+
+    private byte[] exportTickets(int tickets, double bettingAmount) throws Exception {
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        ScoringContext context = new ScoringContext(game);
+        int[] cells = new int[game.getCellCount()];
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GameResultWriter writer = GameResultWriter.ndjson(output)) {
+            for (long ticket = 0; ticket < tickets; ticket++) {
+                MatrixGenerator.fillCells(game, cells, RandomStreams.stream(7, ticket));
+                writer.write(cells, calculator.calculateReward(cells, bettingAmount, game, context), context);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private List<JsonNode> records(StringWriter output) throws Exception {
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : output.toString().split("\n")) {
+            if (!line.isEmpty()) {
+                records.add(objectMapper.readTree(line));
+            }
+        }
+        return records;
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
@@ -0,0 +1,102 @@
+package com.game.batch;
+
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.model.GameResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.game.errors.BatchErrors.BATCH_TOO_LARGE;
+import static com.game.errors.BatchErrors.INVALID_TICKET_COUNT;
+import static com.game.errors.BatchErrors.TICKET_OUT_OF_RANGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketBatchGeneratorTest {
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testGenerate_ScoresEveryTicketLikeTheCalculator() {
+        TicketBatch batch = TicketBatchGenerator.generate(game, 100, 2_000);
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        int[] cells = new int[batch.getCellCount()];
+
+        assertEquals(2_000, batch.size());
+        double total = 0.0;
+        for (int ticket = 0; ticket < batch.size(); ticket++) {
+            batch.copyCells(ticket, cells);
+            GameResult expected = calculator.calculateWinningsCombination(cells, 100, game);
+
+            assertEquals(expected.getTotalReward(), batch.reward(ticket));
+            assertEquals(expected.getAppliedBonusSymbol(),
+                    batch.bonusSymbolId(ticket) == CompiledGame.UNKNOWN_SYMBOL_ID ? null : game.symbolName(batch.bonusSymbolId(ticket)));
+            for (int combination = 0; combination < game.getWinCombinationCount(); combination++) {
+                String name = game.winCombinationName(combination);
+                boolean applied = expected.getAppliedCombinations().values().stream().anyMatch(names -> names.contains(name));
+                assertEquals(applied, batch.hasCombination(ticket, combination));
+            }
+            total += batch.reward(ticket);
+        }
+        assertEquals(total, batch.totalReward(), 1e-6);
+    }
+
+    @Test
+    void testGenerate_WithPerTicketBets() {
+        TicketBatch batch = TicketBatchGenerator.generate(game, new double[]{10, 20, 30});
+
+        assertEquals(3, batch.size());
+        assertEquals(20, batch.bet(1));
+        GameResult result = batch.toGameResult(2);
+        assertEquals(batch.reward(2), result.getTotalReward());
+        assertEquals(3, result.getMatrix().length);
+    }
+
+    @Test
+    void testFill_ReusesBufferAndRescoreIsStable() {
+        TicketBatch batch = new TicketBatch(game, 100);
+        TicketBatchGenerator.fill(batch, 50, 100);
+        double[] rewards = new double[batch.size()];
+        for (int ticket = 0; ticket < batch.size(); ticket++) {
+            rewards[ticket] = batch.reward(ticket);
+        }
+
+        TicketBatchGenerator.rescore(batch, game);
+
+        for (int ticket = 0; ticket < batch.size(); ticket++) {
+            assertEquals(rewards[ticket], batch.reward(ticket));
+        }
+        TicketBatchGenerator.fill(batch, 50, 10);
+        assertEquals(10, batch.size());
+    }
+
+    @Test
+    void testFill_TooManyTickets_ThrowsException() {
+        TicketBatch batch = new TicketBatch(game, 10);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TicketBatchGenerator.fill(batch, 50, 11));
+
+        assertEquals(INVALID_TICKET_COUNT, exception.getMessage());
+    }
+
+    @Test
+    void testNewBatch_CellColumnOverflowsInt_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new TicketBatch(game, 300_000_000));
+
+        assertEquals(BATCH_TOO_LARGE + 300_000_000, exception.getMessage());
+    }
+
+    @Test
+    void testReward_TicketOutOfRange_ThrowsException() {
+        TicketBatch batch = TicketBatchGenerator.generate(game, 100, 5);
+
+        IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class, () -> batch.reward(5));
+
+        assertEquals(TICKET_OUT_OF_RANGE + 5, exception.getMessage());
+    }
+}
@@ -0,0 +1,131 @@
+package com.game.book;
+
+import com.game.batch.TicketBatch;
+import com.game.batch.TicketBatchGenerator;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.game.errors.TicketBookErrors.BET_MISMATCH;
+import static com.game.errors.TicketBookErrors.CONFIG_MISMATCH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketBookTest {
+    @TempDir
+    Path directory;
+
+    private CompiledGame game;
+    private Path book;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+        book = directory.resolve("tickets.book");
+    }
+
+    @Test
+    void testWriteAndRead_BatchRoundTrips() throws Exception {
+        TicketBatch batch = TicketBatchGenerator.generate(game, 100, 5_000);
+        try (TicketBookWriter writer = new TicketBookWriter(book, game, 100)) {
+            writer.write(batch);
+        }
+
+        try (TicketBookReader reader = TicketBookReader.open(book, game)) {
+            assertEquals(5_000, reader.size());
+            assertEquals(100.0, reader.getBettingAmount());
+            int[] cells = new int[game.getCellCount()];
+            int[] expected = new int[game.getCellCount()];
+            for (int ticket = 0; ticket < batch.size(); ticket++) {
+                reader.readCells(ticket, cells);
+                batch.copyCells(ticket, expected);
+                assertArrayEquals(expected, cells);
+                assertEquals(batch.reward(ticket), reader.reward(ticket));
+                for (int combination = 0; combination < game.getWinCombinationCount(); combination++) {
+                    assertEquals(batch.hasCombination(ticket, combination), reader.hasCombination(ticket, combination));
+                }
+            }
+            assertEquals(0, reader.verifyAll());
+        }
+    }
+
+    @Test
+    void testRead_SmallSegments_ReadsAcrossMappings() throws Exception {
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        ScoringContext context = new ScoringContext(game);
+        int[] cells = new int[game.getCellCount()];
+        double[] rewards = new double[1_000];
+        try (TicketBookWriter writer = new TicketBookWriter(book, game, 10)) {
+            for (int ticket = 0; ticket < rewards.length; ticket++) {
+                MatrixGenerator.fillCells(game, cells);
+                rewards[ticket] = calculator.calculateReward(cells, 10, game, context);
+                writer.write(cells, rewards[ticket], context);
+            }
+        }
+
+        try (TicketBookReader reader = TicketBookReader.open(book, game, 100)) {
+            for (int ticket = rewards.length - 1; ticket >= 0; ticket--) {
+                assertEquals(rewards[ticket], reader.reward(ticket));
+            }
+            assertEquals(rewards[999], reader.toGameResult(999).getTotalReward());
+            assertEquals(0, reader.verifyAll());
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.reward(1_000));
+        }
+    }
+
+    @Test
+    void testVerify_TamperedReward_ReportsMismatch() throws Exception {
+        try (TicketBookWriter writer = new TicketBookWriter(book, game, 100)) {
+            writer.write(TicketBatchGenerator.generate(game, 100, 10));
+        }
+        double reward;
+        try (TicketBookReader reader = TicketBookReader.open(book, game)) {
+            reward = reader.reward(3);
+        }
+        TicketBookHeader header = TicketBookHeader.of(game, 100);
+        try (RandomAccessFile file = new RandomAccessFile(book.toFile(), "rw")) {
+            file.seek(header.headerLength + 3L * header.recordSize + (long) header.cellCount * header.idWidth);
+            file.writeDouble(reward + 1);
+        }
+
+        try (TicketBookReader reader = TicketBookReader.open(book, game)) {
+            assertEquals(1, reader.verifyAll());
+            assertFalse(reader.verify(3, new int[game.getCellCount()], new ScoringContext(game)));
+        }
+    }
+
+    @Test
+    void testOpen_DifferentConfig_ThrowsException() throws Exception {
+        try (TicketBookWriter writer = new TicketBookWriter(book, game, 100)) {
+            writer.write(TicketBatchGenerator.generate(game, 100, 10));
+        }
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getSymbolMap().get("A").setRewardMultiplier(6);
+        CompiledGame changed = CompiledGame.compile(config);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> TicketBookReader.open(book, changed));
+
+        assertEquals(CONFIG_MISMATCH, exception.getMessage());
+    }
+
+    @Test
+    void testWrite_BatchWithDifferentBet_ThrowsException() throws Exception {
+        try (TicketBookWriter writer = new TicketBookWriter(book, game, 100)) {
+            TicketBatch batch = TicketBatchGenerator.generate(game, 50, 10);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> writer.write(batch));
+
+            assertEquals(BET_MISMATCH + 50.0, exception.getMessage());
+        }
+        assertTrue(Files.size(book) > 0);
+    }
+}
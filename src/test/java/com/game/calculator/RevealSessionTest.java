@@ -0,0 +1,114 @@
+package com.game.calculator;
+
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.game.errors.RevealErrors.CELL_OUT_OF_RANGE;
+import static com.game.errors.RevealErrors.INVALID_TICKET_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevealSessionTest {
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testReveal_RandomOrder_MatchesRescoringMaskedGrid() {
+        ScoringContext context = new ScoringContext(game);
+        Random random = new Random(3);
+        for (long ticket = 0; ticket < 2_000; ticket++) {
+            int[] cells = MatrixGenerator.generateCells(game, RandomStreams.stream(11, ticket));
+            double finalReward = calculator.calculateReward(cells, 100, game, context);
+            RevealSession session = new RevealSession(game, cells, 100);
+            int[] masked = new int[cells.length];
+            Arrays.fill(masked, CompiledGame.UNKNOWN_SYMBOL_ID);
+
+            assertTrue(session.maxReachableReward() >= finalReward);
+            for (int cell : shuffledCells(random)) {
+                assertEquals(cells[cell], session.reveal(cell));
+                masked[cell] = cells[cell];
+
+                assertEquals(calculator.calculateReward(masked, 100, game, context), session.guaranteedReward());
+                assertTrue(session.maxReachableReward() >= finalReward, "ticket " + ticket);
+            }
+
+            assertTrue(session.isComplete());
+            assertEquals(finalReward, session.guaranteedReward());
+            assertEquals(finalReward, session.maxReachableReward());
+        }
+    }
+
+    @Test
+    void testMaxReachableReward_ShrinksAsLinesBreak() {
+        int a = game.symbolId("A");
+        int b = game.symbolId("B");
+        int[] cells = {a, a, a, b, b, a, b, a, b};
+        RevealSession session = new RevealSession(game, cells, 100);
+        double initial = session.maxReachableReward();
+
+        session.reveal(0);
+        session.reveal(4);
+
+        assertTrue(session.maxReachableReward() < initial);
+        assertEquals(0.0, session.guaranteedReward());
+    }
+
+    @Test
+    void testReveal_SameCellTwice_CountsOnce() {
+        int a = game.symbolId("A");
+        int[] cells = new int[9];
+        Arrays.fill(cells, a);
+        RevealSession session = new RevealSession(game, cells, 100);
+
+        session.reveal(0);
+        session.reveal(0);
+        session.reveal(1);
+
+        assertEquals(7, session.getHiddenCellCount());
+        assertEquals(0.0, session.guaranteedReward());
+        session.reveal(2);
+        assertEquals(calculator.calculateWinningsCombination(new int[]{a, a, a, -1, -1, -1, -1, -1, -1}, 100, game).getTotalReward(),
+                session.guaranteedReward());
+    }
+
+    @Test
+    void testReveal_OutOfRangeCell_ThrowsException() {
+        RevealSession session = new RevealSession(game, MatrixGenerator.generateCells(game), 100);
+
+        IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class, () -> session.reveal(9));
+
+        assertEquals(CELL_OUT_OF_RANGE + 9, exception.getMessage());
+    }
+
+    @Test
+    void testNewSession_WrongTicketSize_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new RevealSession(game, new int[4], 100));
+
+        assertEquals(INVALID_TICKET_SIZE, exception.getMessage());
+    }
+
+    private int[] shuffledCells(Random random) {
+        int[] order = new int[game.getCellCount()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,130 @@
+package com.game.calculator;
+
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
+import com.game.model.GameResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.game.errors.CacheErrors.INVALID_CACHE_CAPACITY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreCacheTest {
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+    private GameConfig config;
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = ConfigLoader.loadConfig("config.json");
+        game = CompiledGame.compile(config);
+    }
+
+    @Test
+    void testCalculateReward_CachedAcrossBets_MatchesUncachedScoring() {
+        ScoreCache cache = new ScoreCache(64);
+        WinningCombinationCalculator cachedCalculator = new WinningCombinationCalculator(cache);
+        ScoringContext context = new ScoringContext(game);
+        ScoringContext cachedContext = new ScoringContext(game);
+        double[] bets = {1, 3, 100, 0.7};
+
+        for (long ticket = 0; ticket < 5_000; ticket++) {
+            // Few distinct grids so most lookups hit.
+            int[] cells = MatrixGenerator.generateCells(game, RandomStreams.stream(5, ticket % 50));
+            double bet = bets[(int) (ticket % bets.length)];
+
+            double expected = calculator.calculateReward(cells, bet, game, context);
+            double actual = cachedCalculator.calculateReward(cells, bet, game, cachedContext);
+
+            assertEquals(expected, actual);
+            assertEquals(context.getAppliedBonusSymbol(), cachedContext.getAppliedBonusSymbol());
+            assertEquals(context.getAppliedCount(), cachedContext.getAppliedCount());
+            for (int i = 0; i < context.getAppliedCount(); i++) {
+                assertEquals(context.appliedSymbolAt(i), cachedContext.appliedSymbolAt(i));
+                assertEquals(context.appliedCombinationAt(i), cachedContext.appliedCombinationAt(i));
+            }
+        }
+        assertTrue(cache.getHits() > 0);
+        assertEquals(5_000, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    void testCalculateWinningsCombination_CacheHit_ReturnsSameResult() {
+        WinningCombinationCalculator cachedCalculator = new WinningCombinationCalculator(new ScoreCache(8));
+        int a = game.symbolId("A");
+        int[] cells = {a, a, a, a, a, a, a, a, game.symbolId("10x")};
+
+        GameResult miss = cachedCalculator.calculateWinningsCombination(cells, 100, game);
+        GameResult hit = cachedCalculator.calculateWinningsCombination(cells, 100, game);
+
+        assertEquals(calculator.calculateWinningsCombination(cells, 100, game).getTotalReward(), hit.getTotalReward());
+        assertEquals(miss.getAppliedCombinations(), hit.getAppliedCombinations());
+        assertEquals(miss.getAppliedBonusSymbol(), hit.getAppliedBonusSymbol());
+    }
+
+    @Test
+    void testPut_BeyondCapacity_EvictsLeastRecentlyUsed() {
+        ScoreCache cache = new ScoreCache(2);
+        WinningCombinationCalculator cachedCalculator = new WinningCombinationCalculator(cache);
+        ScoringContext context = new ScoringContext(game);
+        int[] first = MatrixGenerator.generateCells(game, RandomStreams.stream(1, 0));
+        int[] second = MatrixGenerator.generateCells(game, RandomStreams.stream(1, 1));
+        int[] third = MatrixGenerator.generateCells(game, RandomStreams.stream(1, 2));
+
+        cachedCalculator.calculateReward(first, 10, game, context);
+        cachedCalculator.calculateReward(second, 10, game, context);
+        cachedCalculator.calculateReward(first, 10, game, context);
+        cachedCalculator.calculateReward(third, 10, game, context);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        cachedCalculator.calculateReward(first, 10, game, context);
+        assertEquals(2, cache.getHits());
+        cachedCalculator.calculateReward(second, 10, game, context);
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    void testCalculateReward_HeavyEviction_StaysConsistent() {
+        ScoreCache cache = new ScoreCache(300);
+        WinningCombinationCalculator cachedCalculator = new WinningCombinationCalculator(cache);
+        ScoringContext context = new ScoringContext(game);
+
+        for (long ticket = 0; ticket < 20_000; ticket++) {
+            int[] cells = MatrixGenerator.generateCells(game, RandomStreams.stream(9, ticket % 1_000));
+
+            assertEquals(calculator.calculateReward(cells, 10, game, context),
+                    cachedCalculator.calculateReward(cells, 10, game, context));
+        }
+        assertTrue(cache.size() <= cache.getCapacity());
+        assertEquals(cache.getMisses() - cache.size(), cache.getEvictions());
+    }
+
+    @Test
+    void testGet_NewConfigVersion_Misses() {
+        ScoreCache cache = new ScoreCache(16);
+        WinningCombinationCalculator cachedCalculator = new WinningCombinationCalculator(cache);
+        CompiledGame reloaded = CompiledGame.compile(config, CompiledGame.INITIAL_VERSION + 1);
+        CompiledGame sameVersion = CompiledGame.compile(config);
+        int[] cells = MatrixGenerator.generateCells(game, RandomStreams.stream(2, 0));
+
+        cachedCalculator.calculateReward(cells, 10, game, new ScoringContext(game));
+        cachedCalculator.calculateReward(cells, 10, reloaded, new ScoringContext(reloaded));
+        cachedCalculator.calculateReward(cells, 10, sameVersion, new ScoringContext(sameVersion));
+
+        assertEquals(0, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(0.0, cache.hitRate());
+    }
+
+    @Test
+    void testNewCache_NonPositiveCapacity_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ScoreCache(0));
+
+        assertEquals(INVALID_CACHE_CAPACITY, exception.getMessage());
+    }
+}
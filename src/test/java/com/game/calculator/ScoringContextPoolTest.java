@@ -0,0 +1,64 @@
+package com.game.calculator;
+
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.game.errors.CacheErrors.INVALID_POOL_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringContextPoolTest {
+    private GameConfig config;
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = ConfigLoader.loadConfig("config.json");
+        game = CompiledGame.compile(config);
+    }
+
+    @Test
+    void testAcquire_AfterRelease_ReusesContext() {
+        ScoringContextPool pool = new ScoringContextPool(4);
+        ScoringContext context = pool.acquire(game);
+
+        pool.release(context);
+
+        assertSame(context, pool.acquire(game));
+        assertNotSame(context, pool.acquire(game));
+    }
+
+    @Test
+    void testAcquire_ReloadedGame_DropsStaleContext() {
+        ScoringContextPool pool = new ScoringContextPool(1);
+        ScoringContext stale = pool.acquire(game);
+        pool.release(stale);
+        CompiledGame reloaded = CompiledGame.compile(config, CompiledGame.INITIAL_VERSION + 1);
+
+        ScoringContext context = pool.acquire(reloaded);
+
+        assertSame(reloaded, context.getGame());
+        pool.release(context);
+        assertSame(context, pool.acquire(reloaded));
+    }
+
+    @Test
+    void testRelease_FullPool_DropsContext() {
+        ScoringContextPool pool = new ScoringContextPool(1);
+        ScoringContext first = new ScoringContext(game);
+
+        pool.release(first);
+        pool.release(new ScoringContext(game));
+
+        assertSame(first, pool.acquire(game));
+    }
+
+    @Test
+    void testNewPool_NonPositiveSize_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ScoringContextPool(0));
+
+        assertEquals(INVALID_POOL_SIZE, exception.getMessage());
+    }
+}
@@ -1,13 +1,20 @@
 package com.game.calculator;
 
+import com.game.config.ConfigLoader;
 import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.generator.RandomStreams;
 import com.game.model.GameResult;
 import com.game.model.Symbol;
 import com.game.model.WinCombination;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,6 +79,166 @@ class WinningCombinationCalculatorTest {
         assertEquals("BONUS", result.getAppliedBonusSymbol());
     }
 
+    @Test
+    void testCalculateWinningsCombination_WithCompiledGameLinearAndBonus() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        String[][] matrix = {
+                {"A", "A", "A"},
+                {"B", "C", "D"},
+                {"E", "F", "10x"}
+        };
+
+        GameResult result = calculator.calculateWinningsCombination(matrix, 100, game);
+
+        assertEquals(10000.0, result.getTotalReward());
+        assertEquals(List.of("same_symbol_3_times", "same_symbols_horizontally"), result.getAppliedCombinations().get("A"));
+        assertEquals(1, result.getAppliedCombinations().size());
+        assertEquals("10x", result.getAppliedBonusSymbol());
+    }
+
+    @Test
+    void testCalculateWinningsCombination_WithEncodedCellsMaterializesMatrixOnDemand() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        String[][] matrix = {
+                {"B", "A", "B"},
+                {"C", "B", "D"},
+                {"E", "F", "+500"}
+        };
+
+        GameResult result = calculator.calculateWinningsCombination(game.encode(matrix), 10, game);
+
+        assertEquals(530.0, result.getTotalReward());
+        assertEquals(List.of("same_symbol_3_times"), result.getAppliedCombinations().get("B"));
+        assertArrayEquals(matrix, result.getMatrix());
+    }
+
+    @Test
+    void testCalculateWinningsCombination_MegaGridLineInSecondBoardWord() {
+        GameConfig megaConfig = new GameConfig();
+        megaConfig.setRows(10);
+        megaConfig.setColumns(10);
+        Symbol symbolA = new Symbol();
+        symbolA.setType("standard");
+        symbolA.setRewardMultiplier(1.0);
+        Symbol symbolB = new Symbol();
+        symbolB.setType("standard");
+        symbolB.setRewardMultiplier(1.0);
+        Map<String, Symbol> symbolMap = new LinkedHashMap<>();
+        symbolMap.put("A", symbolA);
+        symbolMap.put("B", symbolB);
+        megaConfig.setSymbolMap(symbolMap);
+        WinCombination sameTen = new WinCombination();
+        sameTen.setWhen("same_symbols");
+        sameTen.setCount(10);
+        sameTen.setGroup("same_symbols");
+        sameTen.setRewardMultiplier(2.0);
+        WinCombination lastRow = new WinCombination();
+        lastRow.setWhen("linear_symbols");
+        lastRow.setRewardMultiplier(3.0);
+        lastRow.setGroup("horizontally_linear_symbols");
+        lastRow.setCoveredAreas(List.of(IntStream.range(0, 10).mapToObj(column -> "9:" + column).toList()));
+        Map<String, WinCombination> winCombinations = new LinkedHashMap<>();
+        winCombinations.put("same_symbol_10_times", sameTen);
+        winCombinations.put("same_symbols_horizontally", lastRow);
+        megaConfig.setWinCombinations(winCombinations);
+        CompiledGame game = CompiledGame.compile(megaConfig);
+        int[] cells = new int[100];
+        Arrays.fill(cells, game.symbolId("B"));
+        Arrays.fill(cells, 90, 100, game.symbolId("A"));
+
+        GameResult result = calculator.calculateWinningsCombination(cells, 10, game);
+
+        assertEquals(80.0, result.getTotalReward());
+        assertEquals(List.of("same_symbol_10_times", "same_symbols_horizontally"), result.getAppliedCombinations().get("A"));
+        assertEquals(List.of("same_symbol_10_times"), result.getAppliedCombinations().get("B"));
+    }
+
+    @Test
+    void testCalculateReward_KeptContext_HoldsRewardAndCombinationBits() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        int[] cells = game.encode(new String[][]{
+                {"A", "A", "A"},
+                {"B", "C", "D"},
+                {"E", "F", "10x"}
+        });
+        ScoringContext context = new ScoringContext(game);
+        int a = game.symbolId("A");
+        int sameThree = 0;
+        int horizontal = IntStream.range(0, game.getWinCombinationCount())
+                .filter(index -> "same_symbols_horizontally".equals(game.winCombinationName(index)))
+                .findFirst()
+                .orElseThrow();
+
+        double reward = calculator.calculateReward(cells, 100, game, context);
+
+        assertEquals(10000.0, reward);
+        assertEquals(reward, context.getTotalReward());
+        assertTrue(context.isApplied(sameThree));
+        assertTrue(context.isApplied(a, horizontal));
+        assertFalse(context.isApplied(game.symbolId("B"), sameThree));
+        assertEquals(1L << sameThree | 1L << horizontal, context.combinationMaskWord(0));
+
+        calculator.calculateReward(game.encode(new String[][]{{"A", "B", "C"}, {"D", "E", "F"}, {"A", "B", "MISS"}}), 100, game, context);
+
+        assertEquals(0.0, context.getTotalReward());
+        assertEquals(0L, context.combinationMaskWord(0));
+    }
+
+    @Test
+    void testCalculateReward_KeptContext_DoesNotMatchPreviousTicketsLines() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        ScoringContext context = new ScoringContext(game);
+        int[] scattered = game.encode(new String[][]{{"B", "A", "C"}, {"A", "D", "A"}, {"E", "F", "MISS"}});
+        int[] losing = game.encode(new String[][]{{"A", "B", "C"}, {"D", "E", "F"}, {"A", "B", "MISS"}});
+
+        calculator.calculateReward(game.encode(new String[][]{{"A", "A", "A"}, {"B", "C", "D"}, {"E", "F", "10x"}}), 1, game, context);
+        calculator.calculateReward(losing, 1, game, context);
+        double reward = calculator.calculateReward(scattered, 1, game, context);
+
+        assertEquals(calculator.calculateWinningsCombination(scattered, 1, game).getTotalReward(), reward);
+        assertEquals(5.0, reward);
+        assertEquals(1L, context.combinationMaskWord(0));
+    }
+
+    @Test
+    void testCalculateReward_LineShorterThanSameSymbolCount_StillAppliesBonus() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getWinCombinations().get("same_symbols_horizontally").setCoveredAreas(List.of(List.of("0:0", "0:1")));
+        CompiledGame game = CompiledGame.compile(config);
+        ScoringContext context = new ScoringContext(game);
+
+        double reward = calculator.calculateReward(game.encode(new String[][]{{"A", "A", "B"}, {"C", "D", "E"}, {"F", "B", "+1000"}}), 10, game, context);
+
+        // A line without a same-symbol win scores nothing itself, but it is a win, so the bonus still applies.
+        assertEquals(1000.0, reward);
+        assertEquals(1, context.getAppliedCount());
+        assertEquals(game.symbolId("+1000"), context.getAppliedBonusSymbol());
+    }
+
+    @Test
+    void testCalculateReward_KeptContext_AllocatesNothing() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        ScoringContext context = new ScoringContext(game);
+        int[][] tickets = new int[64][];
+        for (int i = 0; i < tickets.length; i++) {
+            tickets[i] = MatrixGenerator.generateCells(game, RandomStreams.stream(8, i));
+        }
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int[] cells : tickets) {
+            calculator.calculateReward(cells, 10, game, context);
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            calculator.calculateReward(tickets[i % tickets.length], 10, game, context);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // A single object per ticket would account for at least 160 KB.
+        assertTrue(allocated < 16 * 1024, "allocated " + allocated + " bytes");
+    }
+
     private void setUpGameConfig() {
         Map<String, WinCombination> winCombinations = new HashMap<>();
 
@@ -0,0 +1,109 @@
+package com.game.config;
+
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigRegistryTest {
+    @TempDir
+    Path directory;
+
+    private Path configFile;
+    private String config;
+    private ConfigRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = Files.readString(Path.of("config.json"));
+        configFile = directory.resolve("config.json");
+        Files.writeString(configFile, config);
+        registry = new ConfigRegistry(configFile);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        registry.close();
+    }
+
+    @Test
+    void testReload_ValidConfig_SwapsInNextVersion() throws Exception {
+        CompiledGame original = registry.get();
+        Files.writeString(configFile, withSymbolAMultiplier(6));
+
+        assertTrue(registry.reload());
+
+        CompiledGame reloaded = registry.get();
+        assertEquals(CompiledGame.INITIAL_VERSION, original.getVersion());
+        assertEquals(CompiledGame.INITIAL_VERSION + 1, reloaded.getVersion());
+        assertEquals(5.0, original.rewardMultiplier(original.symbolId("A")));
+        assertEquals(6.0, reloaded.rewardMultiplier(reloaded.symbolId("A")));
+    }
+
+    @Test
+    void testReload_InvalidConfig_KeepsCurrentVersion() throws Exception {
+        CompiledGame original = registry.get();
+        Files.writeString(configFile, "{ not json");
+
+        assertFalse(registry.reload());
+
+        assertSame(original, registry.get());
+    }
+
+    @Test
+    void testReload_StreamingReader_ReadsStartupAndReloadThroughIt() throws Exception {
+        List<String> reads = new ArrayList<>();
+        try (ConfigRegistry streaming = new ConfigRegistry(configFile, null, filePath -> {
+            reads.add(filePath);
+            return ConfigLoader.loadConfigStreaming(filePath);
+        })) {
+            Files.writeString(configFile, withSymbolAMultiplier(6));
+
+            assertTrue(streaming.reload());
+
+            assertEquals(List.of(configFile.toAbsolutePath().toString(), configFile.toAbsolutePath().toString()), reads);
+            assertEquals(6.0, streaming.get().rewardMultiplier(streaming.get().symbolId("A")));
+        }
+    }
+
+    @Test
+    void testWatch_FileModified_ReloadsInBackground() throws Exception {
+        registry.watch();
+        Files.writeString(configFile, withSymbolAMultiplier(6));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (registry.getVersion() == CompiledGame.INITIAL_VERSION && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(CompiledGame.INITIAL_VERSION + 1, registry.getVersion());
+    }
+
+    @Test
+    void testCalculate_ResultCarriesConfigVersion() throws Exception {
+        Files.writeString(configFile, config);
+        registry.reload();
+        CompiledGame game = registry.get();
+        String[][] matrix = {{"A", "A", "A"}, {"B", "C", "D"}, {"E", "F", "MISS"}};
+
+        long version = new WinningCombinationCalculator().calculateWinningsCombination(matrix, 100, game).getConfigVersion();
+
+        assertEquals(game.getVersion(), version);
+        assertEquals(CompiledGame.INITIAL_VERSION + 1, version);
+    }
+
+    private String withSymbolAMultiplier(int multiplier) {
+        String updated = config.replaceFirst("(\"A\":\\s*\\{\\s*\"reward_multiplier\":\\s*)5", "$1" + multiplier);
+        assertNotEquals(config, updated);
+        return updated;
+    }
+}
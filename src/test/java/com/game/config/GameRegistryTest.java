@@ -0,0 +1,164 @@
+package com.game.config;
+
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.game.errors.GameConfigErrors.INVALID_GAME_ID;
+import static com.game.errors.GameConfigErrors.UNKNOWN_GAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRegistryTest {
+    private static final String[][] MATRIX = {{"A", "A", "A"}, {"B", "C", "D"}, {"E", "F", "MISS"}};
+
+    private final GameRegistry registry = new GameRegistry();
+    private String config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = Files.readString(Path.of("config.json"));
+    }
+
+    @Test
+    void testRegisterAll_Directory_KeysGamesByFileName(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("classic.json"), config);
+        Files.writeString(directory.resolve("rich.json"), withSymbolAMultiplier(6));
+        Files.writeString(directory.resolve("notes.txt"), "not a game");
+
+        assertEquals(2, registry.registerAll(directory));
+
+        assertEquals(Set.of("classic", "rich"), registry.getGameIds());
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        assertEquals(10.0, calculator.calculateWinningsCombination(MATRIX, 1, registry.get("classic")).getTotalReward());
+        assertEquals(12.0, calculator.calculateWinningsCombination(MATRIX, 1, registry.get("rich")).getTotalReward());
+    }
+
+    @Test
+    void testRegisterAll_StreamingReader_ReadsEveryFileThroughIt(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("classic.json"), config);
+        Files.writeString(directory.resolve("rich.json"), withSymbolAMultiplier(6));
+        Set<String> reads = new HashSet<>();
+        GameRegistry streaming = new GameRegistry(filePath -> {
+            reads.add(Path.of(filePath).getFileName().toString());
+            return ConfigLoader.loadConfigStreaming(filePath);
+        });
+
+        assertEquals(2, streaming.registerAll(directory));
+
+        assertEquals(Set.of("classic.json", "rich.json"), reads);
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+        assertEquals(12.0, calculator.calculateWinningsCombination(MATRIX, 1, streaming.get("rich")).getTotalReward());
+    }
+
+    @Test
+    void testRegister_PaytableVariants_ShareSymbolAndPatternTables() {
+        CompiledGame classic = registry.register("classic", parse(config));
+        int tables = registry.getSharedTableCount();
+        CompiledGame rich = registry.register("rich", parse(withSymbolAMultiplier(6)));
+
+        assertNotSame(classic, rich);
+        assertSame(classic.getPatternMasks(), rich.getPatternMasks());
+        assertSame(classic.getLinearCombinations(), rich.getLinearCombinations());
+        // Only the reward multiplier table differs between the two paytables.
+        assertEquals(tables + 1, registry.getSharedTableCount());
+        assertNotEquals(classic.rewardMultiplier(classic.symbolId("A")), rich.rewardMultiplier(rich.symbolId("A")));
+    }
+
+    @Test
+    void testRegister_ReplacedOrRemovedGames_DropUnusedTables() {
+        registry.register("classic", parse(config));
+        int tables = registry.getSharedTableCount();
+        CompiledGame rich = registry.register("rich", parse(withSymbolAMultiplier(6)));
+
+        registry.register("rich", parse(config));
+
+        assertEquals(tables, registry.getSharedTableCount());
+        assertEquals(6.0, rich.rewardMultiplier(rich.symbolId("A")));
+        registry.unregister("classic");
+        registry.unregister("rich");
+        assertEquals(0, registry.getSharedTableCount());
+    }
+
+    @Test
+    void testGetPatterns_SharedGame_ReturnsCopy() {
+        CompiledGame classic = registry.register("classic", parse(config));
+        CompiledGame rich = registry.register("rich", parse(withSymbolAMultiplier(6)));
+
+        classic.getLinearCombinations().get(0).getPatterns()[0][0] = 8;
+
+        assertNotEquals(8, rich.getLinearCombinations().get(0).getPatterns()[0][0]);
+        assertNotEquals(8, classic.getLinearCombinations().get(0).getPatterns()[0][0]);
+    }
+
+    @Test
+    void testWatch_FileCreatedOrModified_RegistersNextVersion(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("classic.json"), config);
+        registry.registerAll(directory);
+        try (registry) {
+            registry.watch(directory);
+            Files.writeString(directory.resolve("classic.json"), withSymbolAMultiplier(6));
+            Files.writeString(directory.resolve("rich.json"), config);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while ((!registry.contains("rich") || registry.get("classic").getVersion() == CompiledGame.INITIAL_VERSION)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        assertEquals(CompiledGame.INITIAL_VERSION + 1, registry.get("classic").getVersion());
+        assertEquals(CompiledGame.INITIAL_VERSION, registry.get("rich").getVersion());
+    }
+
+    @Test
+    void testRegister_SameId_BumpsVersionAndKeepsOldGameUsable() {
+        CompiledGame first = registry.register("classic", parse(config));
+
+        CompiledGame second = registry.register("classic", parse(withSymbolAMultiplier(6)));
+
+        assertEquals(CompiledGame.INITIAL_VERSION, first.getVersion());
+        assertEquals(CompiledGame.INITIAL_VERSION + 1, second.getVersion());
+        assertSame(second, registry.get("classic"));
+        assertEquals(10.0, new WinningCombinationCalculator().calculateWinningsCombination(MATRIX, 1, first).getTotalReward());
+    }
+
+    @Test
+    void testGet_UnknownOrUnregisteredGame_ThrowsException() {
+        registry.register("classic", parse(config));
+        assertTrue(registry.unregister("classic"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.get("classic"));
+
+        assertEquals(UNKNOWN_GAME + "classic", exception.getMessage());
+        assertFalse(registry.contains("classic"));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(null));
+    }
+
+    @Test
+    void testRegister_BlankId_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.register(" ", parse(config)));
+
+        assertEquals(INVALID_GAME_ID, exception.getMessage());
+    }
+
+    private static GameConfig parse(String json) {
+        try {
+            return new com.fasterxml.jackson.databind.ObjectMapper().readValue(json, GameConfig.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String withSymbolAMultiplier(int multiplier) {
+        String updated = config.replaceFirst("(\"A\":\\s*\\{\\s*\"reward_multiplier\":\\s*)5", "$1" + multiplier);
+        assertNotEquals(config, updated);
+        return updated;
+    }
+}
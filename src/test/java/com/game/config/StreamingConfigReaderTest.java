@@ -0,0 +1,70 @@
+package com.game.config;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.game.errors.GameConfigErrors.INVALID_CONFIG_VALUE;
+import static com.game.errors.GameConfigErrors.UNKNOWN_CONFIG_FIELD;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingConfigReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRead_ConfigFile_MatchesDatabind() throws Exception {
+        GameConfig databind = ConfigLoader.loadConfig("config.json");
+        GameConfig streamed = ConfigLoader.loadConfigStreaming("config.json");
+
+        assertEquals(databind.toString(), streamed.toString());
+        assertArrayEquals(CompiledGame.compile(databind).getFingerprint(), CompiledGame.compile(streamed).getFingerprint());
+    }
+
+    @Test
+    void testRead_NullsAndNumericStrings_MatchDatabind() throws Exception {
+        String json = """
+                {
+                  "columns": "3",
+                  "rows": 3.0,
+                  "symbols": {
+                    "A": {"reward_multiplier": "5", "type": "standard", "extra": null},
+                    "10x": {"reward_multiplier": 10, "type": "bonus", "impact": "multiply_reward"},
+                    "+500": {"reward_multiplier": null, "type": "bonus", "impact": "extra_bonus", "extra": 500}
+                  },
+                  "probabilities": {
+                    "standard_symbols": [{"column": 0, "row": 0, "symbols": {"A": 1, "B": null}}],
+                    "bonus_symbols": null
+                  },
+                  "win_combinations": {
+                    "same_symbols_horizontally": {"reward_multiplier": 2, "when": "linear_symbols", "group": "horizontally_linear_symbols",
+                      "covered_areas": [["0:0", "0:1", "0:2"]]},
+                    "same_symbol_3_times": {"reward_multiplier": 1, "when": "same_symbols", "count": "3", "group": "same_symbols"}
+                  }
+                }
+                """;
+
+        assertEquals(objectMapper.readValue(json, GameConfig.class).toString(), read(json).toString());
+    }
+
+    @Test
+    void testRead_UnknownField_ThrowsException() {
+        JsonParseException exception = assertThrows(JsonParseException.class, () -> read("{\"rows\": 3, \"colour\": \"red\"}"));
+
+        assertTrue(exception.getMessage().startsWith(UNKNOWN_CONFIG_FIELD + "colour"));
+    }
+
+    @Test
+    void testRead_ObjectWhereNumberExpected_ThrowsException() {
+        JsonParseException exception = assertThrows(JsonParseException.class, () -> read("{\"rows\": {}}"));
+
+        assertTrue(exception.getMessage().startsWith(INVALID_CONFIG_VALUE));
+    }
+
+    private static GameConfig read(String json) throws Exception {
+        return StreamingConfigReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.game.engine;
+
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.enums.BonusImpact;
+import com.game.generator.MatrixGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.game.errors.GameConfigErrors.INVALID_COVERED_AREA;
+import static com.game.errors.GameConfigErrors.INVALID_MATRIX_SIZE;
+import static com.game.errors.GameConfigErrors.UNKNOWN_SYMBOL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledGameTest {
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testCompile_InternsSymbolsAndResolvesBonusImpacts() {
+        assertEquals(11, game.getSymbolCount());
+        int ten = game.symbolId("10x");
+        int extra = game.symbolId("+1000");
+        int a = game.symbolId("A");
+
+        assertEquals("10x", game.symbolName(ten));
+        assertTrue(game.isBonus(ten));
+        assertEquals(BonusImpact.MULTIPLY_REWARD, game.bonusImpact(ten));
+        assertEquals(BonusImpact.EXTRA_BONUS, game.bonusImpact(extra));
+        assertFalse(game.isBonus(a));
+        assertNull(game.bonusImpact(a));
+        assertEquals(50.0, game.applyBonus(ten, 5.0));
+        assertEquals(1005.0, game.applyBonus(extra, 5.0));
+    }
+
+    @Test
+    void testCompile_IndexesWinCombinations() {
+        assertEquals(7, game.getSameSymbolCombinationCount());
+        assertEquals(3, game.sameSymbolCountAt(0));
+        assertEquals(1.0, game.sameSymbolMultiplierAt(0));
+        assertEquals("same_symbol_9_times", game.sameSymbolNameAt(6));
+        assertEquals(4, game.getLinearCombinations().size());
+    }
+
+    @Test
+    void testSameSymbolCombinationFor_EveryCount_MatchesHighestReachedTier() {
+        for (int count = 0; count <= game.getCellCount() + 5; count++) {
+            int expected = game.getSameSymbolCombinationCount() - 1;
+            while (expected >= 0 && game.sameSymbolCountAt(expected) > count) {
+                expected--;
+            }
+
+            assertEquals(expected, game.sameSymbolCombinationFor(count));
+            assertEquals(expected < 0 ? 0.0 : game.sameSymbolMultiplierAt(expected), game.sameSymbolMultiplierFor(count));
+        }
+        assertEquals(-1, game.sameSymbolCombinationFor(2));
+        assertEquals(0, game.sameSymbolCombinationFor(3));
+        assertEquals(6, game.sameSymbolCombinationFor(9));
+    }
+
+    @Test
+    void testCompile_ParsesCoveredAreasIntoCellIndexes() {
+        LinearCombination diagonal = game.getLinearCombinations().stream()
+                .filter(combination -> "same_symbols_diagonally_right_to_left".equals(combination.getName()))
+                .findFirst()
+                .orElseThrow();
+
+        assertArrayEquals(new int[][]{{2, 4, 6}}, diagonal.getPatterns());
+    }
+
+    @Test
+    void testCompile_OutOfBoundsCoveredArea_ThrowsException() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getWinCombinations().get("same_symbols_vertically").setCoveredAreas(List.of(List.of("0:0", "3:0")));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> CompiledGame.compile(config));
+
+        assertEquals(INVALID_COVERED_AREA + "3:0", exception.getMessage());
+    }
+
+    @Test
+    void testCompile_EmptyCoveredArea_LeftOutOfScoredPatterns() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getWinCombinations().get("same_symbols_vertically").setCoveredAreas(List.of(List.of(), List.of("0:0", "1:0", "2:0")));
+        CompiledGame pruned = CompiledGame.compile(config);
+        PatternMasks patternMasks = pruned.getPatternMasks();
+
+        assertEquals(game.getPatternCount() - 2, pruned.getPatternCount());
+        assertTrue(java.util.stream.IntStream.range(0, pruned.getPatternCount()).allMatch(pattern -> patternMasks.distinctCellCountOf(pattern) > 0));
+        assertEquals(List.of("same_symbol_3_times", "same_symbols_vertically"), new com.game.calculator.WinningCombinationCalculator()
+                .calculateWinningsCombination(new String[][]{{"A", "B", "C"}, {"A", "C", "B"}, {"A", "D", "E"}}, 1, pruned)
+                .getAppliedCombinations().get("A"));
+    }
+
+    @Test
+    void testCompileForScoring_InvalidProbabilities_IgnoredAndScoresIdentically() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getProbabilities().getStandardSymbols().get(0).setRow(7);
+        assertThrows(IllegalArgumentException.class, () -> CompiledGame.compile(config));
+
+        CompiledGame scoringOnly = CompiledGame.compileForScoring(config);
+
+        assertNull(scoringOnly.getSamplers());
+        assertArrayEquals(game.getFingerprint(), scoringOnly.getFingerprint());
+    }
+
+    @Test
+    void testGenerate_UsesCompiledSamplers() {
+        String[][] matrix = MatrixGenerator.generate(game);
+
+        assertEquals(3, matrix.length);
+        for (String[] row : matrix) {
+            assertEquals(3, row.length);
+            for (String symbol : row) {
+                assertNotNull(symbol);
+                game.symbolId(symbol);
+            }
+        }
+    }
+
+    @Test
+    void testGenerateCells_ProducesKnownSymbolIdsWithAtMostOneBonus() {
+        for (int ticket = 0; ticket < 1_000; ticket++) {
+            int[] cells = MatrixGenerator.generateCells(game);
+
+            assertEquals(9, cells.length);
+            int bonusSymbols = 0;
+            for (int symbolId : cells) {
+                assertTrue(symbolId >= 0 && symbolId < game.getSymbolCount());
+                if (game.isBonus(symbolId)) {
+                    bonusSymbols++;
+                }
+            }
+            assertTrue(bonusSymbols <= 1);
+        }
+    }
+
+    @Test
+    void testDecode_RoundTripsEncode() {
+        String[][] matrix = {{"A", "B", "C"}, {"D", "E", "F"}, {"10x", "MISS", "+500"}};
+
+        assertArrayEquals(matrix, game.decode(game.encode(matrix)));
+    }
+
+    @Test
+    void testEncode_UnknownSymbol_EncodedAsUnknown() {
+        String[][] matrix = {{"A", "A", "A"}, {"A", "Z", "A"}, {"A", "A", "A"}};
+
+        int[] cells = game.encode(matrix);
+
+        assertEquals(CompiledGame.UNKNOWN_SYMBOL_ID, cells[4]);
+        assertEquals(game.symbolId("A"), cells[0]);
+    }
+
+    @Test
+    void testSymbolId_UnknownSymbol_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> game.symbolId("Z"));
+
+        assertEquals(UNKNOWN_SYMBOL + "Z", exception.getMessage());
+    }
+
+    @Test
+    void testEncode_WrongSize_ThrowsException() {
+        String[][] matrix = {{"A", "A"}, {"A", "A"}};
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> game.encode(matrix));
+
+        assertEquals(INVALID_MATRIX_SIZE, exception.getMessage());
+    }
+}
@@ -0,0 +1,123 @@
+package com.game.engine;
+
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.enums.ConfigIssueType;
+import com.game.model.StandardSymbolProbability;
+import com.game.model.WinCombination;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigAnalyzerTest {
+
+    @Test
+    void testAnalyze_ConfigFile_NoIssuesAndBoundedPayout() throws Exception {
+        ConfigAnalysis analysis = ConfigAnalyzer.analyze(ConfigLoader.loadConfig("config.json"));
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        String[][] bestTicket = {{"A", "A", "A"}, {"A", "A", "A"}, {"A", "A", "10x"}};
+        double bestReward = new WinningCombinationCalculator().calculateWinningsCombination(bestTicket, 1, game).getTotalReward();
+
+        assertTrue(analysis.getIssues().isEmpty());
+        assertTrue(analysis.getDeadWinCombinations().isEmpty());
+        assertEquals(game.getPatternCount(), analysis.scoredPatternCount());
+        assertEquals(800_000.0, analysis.getMaxPayoutMultiplier());
+        assertEquals(1000.0, analysis.getMaxExtraBonus());
+        assertTrue(bestReward > 0 && bestReward <= analysis.maxPayout(1));
+    }
+
+    @Test
+    void testAnalyze_BrokenConfig_ReportsEveryIssue() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        List<StandardSymbolProbability> cells = config.getProbabilities().getStandardSymbols();
+        cell(cells, 0, 0).setSymbols(Map.of("A", 1));
+        cell(cells, 2, 2).setSymbols(Map.of("B", 1));
+        StandardSymbolProbability outside = new StandardSymbolProbability();
+        outside.setRow(5);
+        outside.setColumn(5);
+        outside.setSymbols(Map.of("A", 1));
+        cells.add(outside);
+        config.getProbabilities().getBonusSymbols().getSymbols().put("Z", 1);
+
+        Map<String, WinCombination> combinations = config.getWinCombinations();
+        combinations.put("same_symbol_20_times", sameSymbols(20));
+        combinations.put("same_symbol_0_times", sameSymbols(0));
+        combinations.put("same_symbol_3_again", sameSymbols(3));
+        WinCombination sometimes = new WinCombination();
+        sometimes.setWhen("sometimes");
+        combinations.put("sometimes", sometimes);
+        WinCombination zigzag = new WinCombination();
+        zigzag.setWhen("linear_symbols");
+        zigzag.setGroup("zigzag_linear_symbols");
+        combinations.put("zigzag", zigzag);
+        List<List<String>> rows = new ArrayList<>(combinations.get("same_symbols_horizontally").getCoveredAreas());
+        rows.add(List.of("0:0", "0:1", "0:2"));
+        rows.add(List.of("3:0", "0:-1"));
+        rows.add(List.of());
+        combinations.get("same_symbols_horizontally").setCoveredAreas(rows);
+
+        ConfigAnalysis analysis = ConfigAnalyzer.analyze(config);
+
+        assertEquals(Set.of("same_symbols_diagonally_left_to_right", "same_symbol_20_times", "same_symbol_0_times",
+                "same_symbol_3_times", "same_symbol_9_times", "sometimes", "zigzag"), Set.copyOf(analysis.getDeadWinCombinations()));
+        assertEquals(2, count(analysis, ConfigIssueType.INVALID_COORDINATE));
+        assertEquals(1, count(analysis, ConfigIssueType.EMPTY_PATTERN));
+        assertEquals(1, count(analysis, ConfigIssueType.DUPLICATE_PATTERN));
+        assertEquals(1, count(analysis, ConfigIssueType.DEAD_PATTERN));
+        assertEquals(1, count(analysis, ConfigIssueType.SHADOWED_SAME_SYMBOL_COUNT));
+        assertEquals(3, count(analysis, ConfigIssueType.UNREACHABLE_SAME_SYMBOL_COUNT));
+        assertEquals(1, count(analysis, ConfigIssueType.INVALID_PROBABILITY_CELL));
+        assertEquals(1, count(analysis, ConfigIssueType.UNKNOWN_SYMBOL));
+        assertEquals(1, count(analysis, ConfigIssueType.UNKNOWN_CONDITION));
+        assertEquals(1, count(analysis, ConfigIssueType.UNKNOWN_GROUP));
+        assertEquals(4, analysis.getScoredPatterns().get("same_symbols_horizontally").size());
+        assertEquals(List.of(List.of("0:0", "1:1", "2:2")), analysis.getScoredPatterns().get("same_symbols_diagonally_left_to_right"));
+    }
+
+    @Test
+    void testAnalyze_LinearOnlyWinWithExtraBonus_BoundsExtraBonus() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getWinCombinations().values().removeIf(combination -> "same_symbols".equals(combination.getWhen()));
+        CompiledGame game = CompiledGame.compile(config);
+        String[][] ticket = {{"A", "A", "A"}, {"B", "C", "D"}, {"E", "F", "+1000"}};
+        double reward = new WinningCombinationCalculator().calculateWinningsCombination(ticket, 1, game).getTotalReward();
+
+        ConfigAnalysis analysis = ConfigAnalyzer.analyze(config);
+
+        assertEquals(1000.0, reward);
+        assertEquals(0.0, analysis.getMaxPayoutMultiplier());
+        assertEquals(1000.0, analysis.getMaxExtraBonus());
+        assertTrue(reward <= analysis.maxPayout(1));
+    }
+
+    @Test
+    void testAnalyze_InvalidGrid_ReportsOnlyGrid() {
+        ConfigAnalysis analysis = ConfigAnalyzer.analyze(new GameConfig());
+
+        assertEquals(1, count(analysis, ConfigIssueType.INVALID_GRID));
+        assertEquals(0.0, analysis.maxPayout(100));
+    }
+
+    private static StandardSymbolProbability cell(List<StandardSymbolProbability> cells, int row, int column) {
+        return cells.stream().filter(cell -> cell.getRow() == row && cell.getColumn() == column).findFirst().orElseThrow();
+    }
+
+    private static WinCombination sameSymbols(int count) {
+        WinCombination combination = new WinCombination();
+        combination.setWhen("same_symbols");
+        combination.setGroup("same_symbols");
+        combination.setCount(count);
+        combination.setRewardMultiplier(2);
+        return combination;
+    }
+
+    private static long count(ConfigAnalysis analysis, ConfigIssueType type) {
+        return analysis.getIssues().stream().filter(issue -> issue.getType() == type).count();
+    }
+}
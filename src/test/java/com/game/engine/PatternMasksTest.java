@@ -0,0 +1,119 @@
+package com.game.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.config.GameConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternMasksTest {
+    private static final int SIZE = 10;
+
+    private CompiledGame game;
+    private PatternMasks patternMasks;
+    private int a;
+    private int b;
+    private int bonus;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        List<List<String>> columns = new ArrayList<>();
+        for (int column = 0; column < SIZE; column++) {
+            List<String> area = new ArrayList<>();
+            for (int row = 0; row < SIZE; row++) {
+                area.add(row + ":" + column);
+            }
+            columns.add(area);
+        }
+        Map<String, Object> config = Map.of(
+                "rows", SIZE,
+                "columns", SIZE,
+                "symbols", Map.of(
+                        "A", Map.of("reward_multiplier", 1, "type", "standard"),
+                        "B", Map.of("reward_multiplier", 2, "type", "standard"),
+                        "10x", Map.of("reward_multiplier", 10, "type", "bonus", "impact", "multiply_reward")),
+                "win_combinations", Map.of(
+                        "same_symbols_vertically", Map.of(
+                                "reward_multiplier", 2,
+                                "when", "linear_symbols",
+                                "group", "vertically_linear_symbols",
+                                "covered_areas", columns)));
+        ObjectMapper objectMapper = new ObjectMapper();
+        game = CompiledGame.compile(objectMapper.readValue(objectMapper.writeValueAsBytes(config), GameConfig.class));
+        patternMasks = game.getPatternMasks();
+        a = game.symbolId("A");
+        b = game.symbolId("B");
+        bonus = game.symbolId("10x");
+    }
+
+    @Test
+    void testMatchingSymbol_PatternSpanningTwoWords_MatchesFullColumn() {
+        int[] cells = grid(b);
+        for (int row = 0; row < SIZE; row++) {
+            cells[row * SIZE + 9] = a;
+        }
+
+        assertEquals(2, patternMasks.getWordCount());
+        assertEquals(a, patternMasks.matchingSymbol(9, cells, boards(cells), game));
+        assertEquals(b, patternMasks.matchingSymbol(0, cells, boards(cells), game));
+
+        cells[8 * SIZE + 9] = b;
+        assertEquals(CompiledGame.UNKNOWN_SYMBOL_ID, patternMasks.matchingSymbol(9, cells, boards(cells), game));
+    }
+
+    @Test
+    void testMatchingSymbol_BonusOrUnknownCells_BreakPattern() {
+        int[] cells = grid(a);
+        cells[0] = bonus;
+        cells[SIZE * SIZE - 1] = CompiledGame.UNKNOWN_SYMBOL_ID;
+
+        assertEquals(CompiledGame.UNKNOWN_SYMBOL_ID, patternMasks.matchingSymbol(0, cells, boards(cells), game));
+        assertEquals(CompiledGame.UNKNOWN_SYMBOL_ID, patternMasks.matchingSymbol(9, cells, boards(cells), game));
+        assertEquals(a, patternMasks.matchingSymbol(5, cells, boards(cells), game));
+    }
+
+    @Test
+    void testMatchingSymbol_RandomGrids_MatchCellByCellComparison() {
+        Random random = new Random(1);
+        int[][] patterns = game.getLinearCombinations().get(0).getPatterns();
+        for (int ticket = 0; ticket < 10_000; ticket++) {
+            int[] cells = new int[SIZE * SIZE];
+            for (int cell = 0; cell < cells.length; cell++) {
+                cells[cell] = random.nextInt(20) == 0 ? b : a;
+            }
+            long[] boards = boards(cells);
+
+            for (int pattern = 0; pattern < patterns.length; pattern++) {
+                boolean allSame = true;
+                for (int cell : patterns[pattern]) {
+                    allSame &= cells[cell] == cells[patterns[pattern][0]];
+                }
+                int expected = allSame ? cells[patterns[pattern][0]] : CompiledGame.UNKNOWN_SYMBOL_ID;
+                assertEquals(expected, patternMasks.matchingSymbol(pattern, cells, boards, game));
+            }
+        }
+    }
+
+    private static int[] grid(int symbolId) {
+        int[] cells = new int[SIZE * SIZE];
+        Arrays.fill(cells, symbolId);
+        return cells;
+    }
+
+    private long[] boards(int[] cells) {
+        long[] boards = new long[game.getSymbolCount() * patternMasks.getWordCount()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != CompiledGame.UNKNOWN_SYMBOL_ID) {
+                boards[cells[cell] * patternMasks.getWordCount() + (cell >>> 6)] |= 1L << cell;
+            }
+        }
+        return boards;
+    }
+}
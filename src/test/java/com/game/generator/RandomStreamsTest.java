@@ -0,0 +1,62 @@
+package com.game.generator;
+
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamsTest {
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testStream_SameSeedAndIndex_ReplaysTicket() {
+        for (long ticket = 0; ticket < 100; ticket++) {
+            int[] original = MatrixGenerator.generateCells(game, RandomStreams.stream(7, ticket));
+            int[] replayed = MatrixGenerator.generateCells(game, RandomStreams.stream(7, ticket));
+
+            assertArrayEquals(original, replayed);
+        }
+    }
+
+    @Test
+    void testStream_DifferentIndexes_AreIndependent() {
+        int identical = 0;
+        for (long ticket = 0; ticket < 1_000; ticket++) {
+            long first = RandomStreams.stream(7, ticket).nextLong();
+            long next = RandomStreams.stream(7, ticket + 1).nextLong();
+            long otherSeed = RandomStreams.stream(8, ticket).nextLong();
+            if (first == next || first == otherSeed) {
+                identical++;
+            }
+        }
+
+        assertEquals(0, identical);
+    }
+
+    @Test
+    void testGenerateSeededCells_MatchesSequentialExport() {
+        List<int[]> exported = new ArrayList<>();
+        RandomGenerator random = null;
+        for (long ticket = 0; ticket < 3 * RandomStreams.TICKETS_PER_STREAM; ticket++) {
+            if (ticket % RandomStreams.TICKETS_PER_STREAM == 0) {
+                random = RandomStreams.stream(99, ticket / RandomStreams.TICKETS_PER_STREAM);
+            }
+            exported.add(MatrixGenerator.generateCells(game, random));
+        }
+
+        for (int ticket : new int[]{0, 1, 1023, 1024, 1500, 3071}) {
+            assertArrayEquals(exported.get(ticket), MatrixGenerator.generateSeededCells(game, 99, ticket), "ticket " + ticket);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.game.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.game.errors.MatrixGeneratorErrors.INVALID_SYMBOL_WEIGHT;
+import static com.game.errors.MatrixGeneratorErrors.NO_SYMBOL_SELECTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedSymbolSamplerTest {
+
+    @Test
+    void testSample_FollowsWeights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("A", 1);
+        weights.put("B", 2);
+        weights.put("C", 3);
+        weights.put("D", 4);
+        WeightedSymbolSampler sampler = WeightedSymbolSampler.of(weights);
+
+        int draws = 200_000;
+        Map<String, Integer> counters = new HashMap<>();
+        for (int i = 0; i < draws; i++) {
+            counters.merge(sampler.sample(), 1, Integer::sum);
+        }
+
+        weights.forEach((symbol, weight) ->
+                assertEquals(weight / 10.0, counters.get(symbol) / (double) draws, 0.01));
+    }
+
+    @Test
+    void testSample_EqualWeightsAreAllReachable() {
+        Map<String, Integer> weights = Map.of("A", 1, "B", 1, "C", 1);
+        WeightedSymbolSampler sampler = WeightedSymbolSampler.of(weights);
+
+        Map<String, Integer> counters = new HashMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            counters.merge(sampler.sample(), 1, Integer::sum);
+        }
+
+        assertEquals(weights.keySet(), counters.keySet());
+    }
+
+    @Test
+    void testSample_ZeroWeightNeverSelected() {
+        WeightedSymbolSampler sampler = WeightedSymbolSampler.of(Map.of("A", 0, "B", 5));
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("B", sampler.sample());
+        }
+    }
+
+    @Test
+    void testOf_NegativeWeight_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> WeightedSymbolSampler.of(Map.of("A", -1, "B", 5)));
+
+        assertEquals(INVALID_SYMBOL_WEIGHT, exception.getMessage());
+    }
+
+    @Test
+    void testOf_NoWeight_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> WeightedSymbolSampler.of(Map.of("A", 0)));
+
+        assertEquals(NO_SYMBOL_SELECTED, exception.getMessage());
+    }
+}
@@ -0,0 +1,145 @@
+package com.game.metrics;
+
+import com.game.calculator.ScoreCache;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.simulation.RtpSimulator;
+import com.game.simulation.SimulationReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testRecordTicket_CountsCombinationsAndBonus() {
+        GameMetrics metrics = new GameMetrics(true);
+        ScoringContext context = new ScoringContext(game);
+        int a = game.symbolId("A");
+        int[] cells = {a, a, a, a, a, a, a, a, game.symbolId("+1000")};
+
+        double reward = new WinningCombinationCalculator().calculateReward(cells, 100, game, context);
+        metrics.recordTicket(reward, context);
+
+        assertEquals(1, metrics.getTickets());
+        assertEquals(1, metrics.getWinningTickets());
+        assertEquals(1.0, metrics.getBonusHitRate());
+        assertEquals(1L, metrics.getBonusSymbolHits().get("+1000"));
+        assertEquals(1L, metrics.getCombinationHits().get("same_symbol_8_times"));
+        assertTrue(metrics.toText().contains("scratch_bonus_symbol_hits_total{symbol=\"+1000\"} 1\n"));
+    }
+
+    @Test
+    void testRecordTicket_TwoSymbolsSameCombination_CountsEachApplication() {
+        GameMetrics metrics = new GameMetrics(true);
+        ScoringContext context = new ScoringContext(game);
+        int a = game.symbolId("A");
+        int b = game.symbolId("B");
+        int[] cells = {a, b, a, b, game.symbolId("E"), game.symbolId("F"), a, b, game.symbolId("C")};
+
+        double reward = new WinningCombinationCalculator().calculateReward(cells, 100, game, context);
+        metrics.recordTicket(reward, context);
+
+        assertEquals(1, metrics.getWinningTickets());
+        assertEquals(2L, metrics.getCombinationHits().get("same_symbol_3_times"));
+        assertTrue(metrics.toText().contains("scratch_combination_hits_total{combination=\"same_symbol_3_times\"} 2\n"));
+    }
+
+    @Test
+    void testToText_Latencies_ExposedAsSummariesWithSum() {
+        GameMetrics metrics = new GameMetrics(true);
+        metrics.recordScoring(100);
+        metrics.recordScoring(300);
+
+        String text = metrics.toText();
+
+        assertTrue(text.contains("# TYPE scratch_scoring_nanos summary\n"));
+        assertTrue(text.contains("scratch_scoring_nanos_sum 400\n"));
+        assertTrue(text.contains("scratch_scoring_nanos_count 2\n"));
+        assertTrue(text.contains("# TYPE scratch_scoring_nanos_max gauge\nscratch_scoring_nanos_max 300\n"));
+        assertTrue(text.contains("# TYPE scratch_combination_hits_total counter\n"));
+    }
+
+    @Test
+    void testToText_ScoreCache_ExportsCacheCounters() {
+        GameMetrics metrics = new GameMetrics(true);
+        ScoreCache cache = new ScoreCache(16);
+        WinningCombinationCalculator calculator = new WinningCombinationCalculator(cache);
+        ScoringContext context = new ScoringContext(game);
+        int[] cells = MatrixGenerator.generateCells(game);
+        calculator.calculateReward(cells, 100, game, context);
+        calculator.calculateReward(cells, 100, game, context);
+        metrics.setScoreCache(cache);
+
+        String text = metrics.toText();
+
+        assertTrue(text.contains("scratch_cache_capacity 16\n"));
+        assertTrue(text.contains("scratch_cache_size 1\n"));
+        assertTrue(text.contains("# TYPE scratch_cache_hits_total counter\nscratch_cache_hits_total 1\n"));
+        assertTrue(text.contains("scratch_cache_misses_total 1\n"));
+        assertTrue(text.contains("scratch_cache_evictions_total 0\n"));
+    }
+
+    @Test
+    void testEscapeLabel_QuoteBackslashAndNewline_Escaped() {
+        assertEquals("a\\\"b\\\\c\\nd", GameMetrics.escapeLabel("a\"b\\c\nd"));
+        assertEquals("same_symbol_3_times", GameMetrics.escapeLabel("same_symbol_3_times"));
+    }
+
+    @Test
+    void testSimulate_Enabled_MatchesReportCounters() {
+        GameMetrics metrics = new GameMetrics(true);
+        RtpSimulator simulator = new RtpSimulator(new ForkJoinPool(2), 1_000, null, metrics);
+
+        SimulationReport report = simulator.simulate(game, 10_000, 10, 3L);
+
+        assertEquals(report.getTickets(), metrics.getTickets());
+        assertEquals(report.getTickets(), metrics.getScoringNanos().getCount());
+        assertEquals(report.getTickets(), metrics.getGenerationNanos().getCount());
+        assertEquals(report.getCombinationHits().get("same_symbol_3_times"), metrics.getCombinationHits().get("same_symbol_3_times"));
+        assertTrue(metrics.getScoringP99Nanos() >= metrics.getScoringP50Nanos());
+    }
+
+    @Test
+    void testSimulate_Disabled_RecordsNothing() {
+        GameMetrics metrics = new GameMetrics(false);
+
+        new RtpSimulator(new ForkJoinPool(2), 1_000, null, metrics).simulate(game, 5_000, 10, 3L);
+
+        assertEquals(0, metrics.getTickets());
+        assertEquals(0, metrics.getScoringNanos().getCount());
+    }
+
+    @Test
+    void testRegisterMBean_ExposesAttributesAndToggle() throws Exception {
+        GameMetrics metrics = new GameMetrics(false);
+        ObjectName name = metrics.registerMBean();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(false, server.getAttribute(name, "Enabled"));
+
+            server.setAttribute(name, new Attribute("Enabled", true));
+
+            assertTrue(metrics.isEnabled());
+            assertEquals(0L, server.getAttribute(name, "Tickets"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+}
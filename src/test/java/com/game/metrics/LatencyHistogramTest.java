@@ -0,0 +1,61 @@
+package com.game.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketOf_EveryBucketBoundary_RoundTrips() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+
+            assertTrue(LatencyHistogram.highestValueIn(bucket) >= value);
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.highestValueIn(bucket)));
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueIn(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentile_RandomLatencies_WithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(4);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 16);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.percentile(percentile);
+
+            assertTrue(reported >= exact, percentile + "th");
+            assertTrue(reported <= exact + exact / 16 + 1, percentile + "th");
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.percentile(100));
+        assertEquals(values.length, histogram.getCount());
+    }
+
+    @Test
+    void testReset_ClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(-3);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0.0, histogram.getMean());
+    }
+}
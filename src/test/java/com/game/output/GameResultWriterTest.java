@@ -0,0 +1,115 @@
+package com.game.output;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.calculator.ScoringContext;
+import com.game.calculator.WinningCombinationCalculator;
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import com.game.generator.MatrixGenerator;
+import com.game.model.GameResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameResultWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WinningCombinationCalculator calculator = new WinningCombinationCalculator();
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testWrite_GameResult_WritesValidJson() throws Exception {
+        String[][] matrix = {{"A", "A", "A"}, {"B", "C", "D"}, {"E", "F", "10x"}};
+        GameResult gameResult = new GameResult(matrix, 1234.5, Map.of("A", List.of("same_symbol_3_times", "same_symbols_horizontally")), "10x");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (GameResultWriter writer = GameResultWriter.pretty(output)) {
+            writer.write(gameResult);
+        }
+
+        JsonNode json = objectMapper.readTree(output.toByteArray());
+        assertEquals("10x", json.get("matrix").get(2).get(2).asText());
+        assertTrue(output.toString(StandardCharsets.UTF_8).matches("(?s).*\"reward\"\\s*:\\s*1234\\.50,.*"));
+        assertEquals("same_symbols_horizontally", json.get("applied_winning_combinations").get("A").get(1).asText());
+        assertEquals("10x", json.get("applied_bonus_symbol").asText());
+    }
+
+    @Test
+    void testWrite_Ndjson_WritesOneLinePerTicket() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (GameResultWriter writer = GameResultWriter.ndjson(output)) {
+            for (int ticket = 0; ticket < 100; ticket++) {
+                writer.write(calculator.calculateWinningsCombination(MatrixGenerator.generateCells(game), 100, game));
+            }
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(100, lines.length);
+        for (String line : lines) {
+            assertTrue(objectMapper.readTree(line).get("reward").isNumber());
+        }
+    }
+
+    @Test
+    void testWrite_ScoringContext_MatchesGameResult() throws Exception {
+        ScoringContext context = new ScoringContext(game);
+        for (int ticket = 0; ticket < 1_000; ticket++) {
+            int[] cells = MatrixGenerator.generateCells(game);
+            double reward = calculator.calculateReward(cells, 100, game, context);
+            ByteArrayOutputStream fromContext = new ByteArrayOutputStream();
+            ByteArrayOutputStream fromResult = new ByteArrayOutputStream();
+
+            try (GameResultWriter writer = GameResultWriter.ndjson(fromContext)) {
+                writer.write(cells, reward, context);
+            }
+            try (GameResultWriter writer = GameResultWriter.ndjson(fromResult)) {
+                writer.write(calculator.calculateWinningsCombination(cells, 100, game));
+            }
+
+            assertEquals(objectMapper.readTree(fromResult.toByteArray()), objectMapper.readTree(fromContext.toByteArray()));
+        }
+    }
+
+    @Test
+    void testFormatReward_MatchesBigDecimalCeiling() {
+        char[] buffer = new char[24];
+        double[] edgeCases = {0.0, 0.29, 1.1, 0.115, 99.999, 100.0, 5000.001, 0.01, 123456789.125, -0.125, -3.0};
+        for (double reward : edgeCases) {
+            assertFormatted(reward, buffer);
+        }
+        double[] products = {3 * 1.2 * 3, 6 * 1.2 * 3, 21.599999999999998, 10.799999999999999, 0.1 + 0.2, 1.1 * 1.1, 3 * 1.5 * 7.7};
+        for (double reward : products) {
+            assertFormatted(reward, buffer);
+        }
+        assertEquals("10.80", new String(buffer, 0, GameResultWriter.formatReward(3 * 1.2 * 3, buffer)));
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double cents = random.nextInt(1_000_000) / 100.0;
+            assertFormatted(cents, buffer);
+            assertFormatted(Math.nextDown(cents), buffer);
+            assertFormatted(Math.nextUp(cents), buffer);
+            assertFormatted(random.nextInt(1000) * 1.2 * (random.nextInt(50) + 1), buffer);
+            assertFormatted(random.nextDouble() * 1e6, buffer);
+        }
+    }
+
+    private static void assertFormatted(double reward, char[] buffer) {
+        String expected = BigDecimal.valueOf(reward).setScale(2, RoundingMode.CEILING).toPlainString();
+        assertEquals(expected, new String(buffer, 0, GameResultWriter.formatReward(reward, buffer)), "reward " + reward);
+    }
+}
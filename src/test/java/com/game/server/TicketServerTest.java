@@ -0,0 +1,167 @@
+package com.game.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.config.GameRegistry;
+import com.game.engine.CompiledGame;
+import com.game.metrics.GameMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+
+import static com.game.errors.GameConfigErrors.UNKNOWN_GAME;
+import static com.game.errors.ServerErrors.INVALID_REQUEST_BODY;
+import static com.game.errors.ServerErrors.METHOD_NOT_ALLOWED;
+import static com.game.errors.ServerErrors.TICKET_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GameMetrics metrics = new GameMetrics(true);
+    private TicketServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CompiledGame game = ConfigLoader.loadCompiledGame("config.json");
+        server = new TicketServer(() -> game, 0, null, metrics);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testPlay_ReturnsScoredTicket() throws Exception {
+        HttpResponse<String> response = post("{\"betting_amount\": 100}");
+
+        assertEquals(200, response.statusCode());
+        JsonNode body = objectMapper.readTree(response.body());
+        assertEquals(3, body.get("matrix").size());
+        assertEquals(3, body.get("matrix").get(0).size());
+        assertTrue(body.get("reward").isNumber());
+        assertTrue(body.get("applied_winning_combinations").isObject());
+        assertTrue(body.has("applied_bonus_symbol"));
+        assertEquals(1, body.get("config_version").asLong());
+    }
+
+    @Test
+    void testPlay_InvalidBody_ReturnsBadRequest() throws Exception {
+        HttpResponse<String> response = post("{\"betting_amount\": -5}");
+
+        assertEquals(400, response.statusCode());
+        assertEquals(INVALID_REQUEST_BODY, objectMapper.readTree(response.body()).get("error").asText());
+        assertEquals(400, post("not json").statusCode());
+    }
+
+    @Test
+    void testPlay_Get_ReturnsMethodNotAllowed() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(playUri()).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode());
+        assertEquals(METHOD_NOT_ALLOWED, objectMapper.readTree(response.body()).get("error").asText());
+    }
+
+    @Test
+    void testMetrics_AfterPlays_ReportsTicketsAndLatencies() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            post("{\"betting_amount\": 100}");
+        }
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(TicketServer.METRICS_PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("scratch_tickets_total 5\n"));
+        assertTrue(response.body().contains("scratch_scoring_nanos_count 5\n"));
+        assertEquals(5, metrics.getGenerationNanos().getCount());
+    }
+
+    @Test
+    void testPlay_MetricsDisabled_RecordsNothing() throws Exception {
+        metrics.setEnabled(false);
+
+        post("{\"betting_amount\": 100}");
+
+        assertEquals(0, metrics.getTickets());
+        assertEquals(0, metrics.getScoringNanos().getCount());
+    }
+
+    @Test
+    void testPlay_Registry_RoutesByGameId() throws Exception {
+        GameRegistry registry = new GameRegistry();
+        registry.register("classic", ConfigLoader.loadConfig("config.json"));
+        registry.register("classic", ConfigLoader.loadConfig("config.json"));
+        server.close();
+        server = new TicketServer(registry, 0, null, metrics);
+        server.start();
+
+        HttpResponse<String> response = post("{\"betting_amount\": 100, \"game_id\": \"classic\"}");
+        HttpResponse<String> unknown = post("{\"betting_amount\": 100, \"game_id\": \"deluxe\"}");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(2, objectMapper.readTree(response.body()).get("config_version").asLong());
+        assertEquals(404, unknown.statusCode());
+        assertEquals(UNKNOWN_GAME + "deluxe", objectMapper.readTree(unknown.body()).get("error").asText());
+        assertEquals(404, post("{\"betting_amount\": 100}").statusCode());
+    }
+
+    @Test
+    void testPlay_GenerationFails_ReturnsServerError() throws Exception {
+        GameConfig config = ConfigLoader.loadConfig("config.json");
+        config.getProbabilities().getStandardSymbols().clear();
+        CompiledGame unplayable = CompiledGame.compileForScoring(config);
+        server.close();
+        server = new TicketServer(() -> unplayable, 0, null, metrics);
+        server.start();
+
+        HttpResponse<String> response = post("{\"betting_amount\": 100}");
+
+        assertEquals(500, response.statusCode());
+        assertEquals(TICKET_FAILED, objectMapper.readTree(response.body()).get("error").asText());
+    }
+
+    @Test
+    void testPlay_GameReloadedOrUnregistered_DropsItsContextPool() throws Exception {
+        GameRegistry registry = new GameRegistry();
+        registry.register("classic", ConfigLoader.loadConfig("config.json"));
+        registry.register("deluxe", ConfigLoader.loadConfig("config.json"));
+        server.close();
+        server = new TicketServer(registry, 0, null, metrics);
+        server.start();
+        post("{\"betting_amount\": 100, \"game_id\": \"classic\"}");
+        post("{\"betting_amount\": 100, \"game_id\": \"deluxe\"}");
+
+        registry.unregister("deluxe");
+        registry.register("classic", ConfigLoader.loadConfig("config.json"));
+        HttpResponse<String> reloaded = post("{\"betting_amount\": 100, \"game_id\": \"classic\"}");
+
+        assertEquals(2, objectMapper.readTree(reloaded.body()).get("config_version").asLong());
+        assertEquals(Set.of("classic"), server.pooledGameIds());
+    }
+
+    private HttpResponse<String> post(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(playUri())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI playUri() {
+        return uri(TicketServer.PLAY_PATH);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
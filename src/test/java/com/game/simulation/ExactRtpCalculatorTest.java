@@ -0,0 +1,87 @@
+package com.game.simulation;
+
+import com.game.config.ConfigLoader;
+import com.game.config.GameConfig;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactRtpCalculatorTest {
+    private final ExactRtpCalculator calculator = new ExactRtpCalculator();
+    private GameConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = ConfigLoader.loadConfig("config.json");
+    }
+
+    @Test
+    void testCalculate_AnalyticalMatchesFullEnumeration() {
+        config.getProbabilities().getStandardSymbols().forEach(probability -> probability.setSymbols(Map.of("A", 1, "B", 2)));
+        config.getProbabilities().getBonusSymbols().setSymbols(Map.of("10x", 1, "+1000", 2, "MISS", 3));
+        CompiledGame game = CompiledGame.compile(config);
+
+        ExactRtpReport analytical = calculator.calculate(game, 100);
+        ExactRtpReport enumerated = calculator.calculateByEnumeration(game, 100);
+
+        assertEquals(ExactRtpReport.Method.ANALYTICAL, analytical.getMethod());
+        assertEquals(enumerated.getExpectedPayout(), analytical.getExpectedPayout(), 1e-6);
+        assertEquals(enumerated.getHitRate(), analytical.getHitRate(), 1e-12);
+        assertEquals(analytical.getExpectedPayout() / 100, analytical.getReturnToPlayer(), 1e-12);
+    }
+
+    @Test
+    void testCalculate_AgreesWithSimulation() {
+        CompiledGame game = CompiledGame.compile(config);
+
+        ExactRtpReport exact = calculator.calculate(game, 100);
+        SimulationReport simulated = new RtpSimulator().simulate(game, 400_000, 100);
+
+        assertEquals(ExactRtpReport.Method.ANALYTICAL, exact.getMethod());
+        assertEquals(exact.getHitRate(), simulated.getHitRate(), 0.01);
+        assertEquals(exact.getReturnToPlayer(), simulated.getReturnToPlayer(), exact.getReturnToPlayer() * 0.05);
+    }
+
+    @Test
+    void testCalculate_FallsBackToEnumerationForShortLinearPatterns() {
+        config.getProbabilities().getStandardSymbols().forEach(probability -> probability.setSymbols(Map.of("A", 1, "B", 1)));
+        config.getProbabilities().getBonusSymbols().setSymbols(Map.of("+500", 1));
+        config.getWinCombinations().get("same_symbols_diagonally_left_to_right").getCoveredAreas().set(0, List.of("0:0", "1:1"));
+        CompiledGame game = CompiledGame.compile(config);
+
+        ExactRtpReport report = calculator.calculate(game, 10);
+
+        assertEquals(ExactRtpReport.Method.ENUMERATION, report.getMethod());
+        assertEquals(calculator.calculateByEnumeration(game, 10).getExpectedPayout(), report.getExpectedPayout(), 1e-9);
+    }
+
+    @Test
+    void testCalculate_StandardSymbolInBonusProbabilities_FallsBackToEnumeration() {
+        config.getProbabilities().getStandardSymbols().forEach(probability -> probability.setSymbols(Map.of("A", 1, "B", 2)));
+        config.getProbabilities().getBonusSymbols().setSymbols(Map.of("A", 1, "10x", 1));
+        CompiledGame game = CompiledGame.compile(config);
+
+        ExactRtpReport report = calculator.calculate(game, 100);
+        SimulationReport simulated = new RtpSimulator().simulate(game, 400_000, 100, 5);
+
+        assertEquals(ExactRtpReport.Method.ENUMERATION, report.getMethod());
+        assertEquals(calculator.calculateByEnumeration(game, 100).getExpectedPayout(), report.getExpectedPayout(), 1e-9);
+        assertEquals(report.getHitRate(), simulated.getHitRate(), 0.01);
+        assertEquals(report.getReturnToPlayer(), simulated.getReturnToPlayer(), report.getReturnToPlayer() * 0.05);
+    }
+
+    @Test
+    void testCalculate_InvalidBettingAmount_ThrowsException() {
+        CompiledGame game = CompiledGame.compile(config);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> calculator.calculate(game, 0));
+
+        assertEquals(INVALID_BETTING_AMOUNT, exception.getMessage());
+    }
+}
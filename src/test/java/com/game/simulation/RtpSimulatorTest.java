@@ -0,0 +1,70 @@
+package com.game.simulation;
+
+import com.game.config.ConfigLoader;
+import com.game.engine.CompiledGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.game.errors.SimulationErrors.INVALID_BETTING_AMOUNT;
+import static com.game.errors.SimulationErrors.INVALID_TICKET_COUNT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RtpSimulatorTest {
+    private CompiledGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = ConfigLoader.loadCompiledGame("config.json");
+    }
+
+    @Test
+    void testSimulate_ReportsConsistentStatistics() {
+        SimulationReport report = new RtpSimulator(ForkJoinPool.commonPool(), 1_000).simulate(game, 20_000, 100);
+
+        assertEquals(20_000, report.getTickets());
+        assertEquals(report.getTotalPayout() / (20_000 * 100.0), report.getReturnToPlayer(), 1e-12);
+        assertTrue(report.getHitRate() > 0.0 && report.getHitRate() <= 1.0);
+        assertTrue(report.getMaxWin() > 0.0);
+        assertTrue(report.getVariance() > 0.0);
+        assertTrue(report.getCombinationHits().get("same_symbol_3_times") > 0);
+        assertEquals(5, report.getBonusSymbolHits().size());
+        assertTrue(report.combinationFrequency("same_symbol_3_times") > 0.0);
+    }
+
+    @Test
+    void testSimulate_Seeded_IsReproducibleAcrossParallelism() {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+        try {
+            SimulationReport first = new RtpSimulator(singleThread, 1_000).simulate(game, 20_000, 100, 42L);
+            SimulationReport second = new RtpSimulator(fourThreads, 1_000).simulate(game, 20_000, 100, 42L);
+            SimulationReport otherSeed = new RtpSimulator(fourThreads, 1_000).simulate(game, 20_000, 100, 43L);
+
+            assertEquals(first.getTotalPayout(), second.getTotalPayout());
+            assertEquals(first.getCombinationHits(), second.getCombinationHits());
+            assertEquals(first.getBonusSymbolHits(), second.getBonusSymbolHits());
+            assertNotEquals(first.getTotalPayout(), otherSeed.getTotalPayout());
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+    }
+
+    @Test
+    void testSimulate_InvalidTicketCount_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new RtpSimulator().simulate(game, 0, 100));
+
+        assertEquals(INVALID_TICKET_COUNT, exception.getMessage());
+    }
+
+    @Test
+    void testSimulate_InvalidBettingAmount_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new RtpSimulator().simulate(game, 10, 0));
+
+        assertEquals(INVALID_BETTING_AMOUNT, exception.getMessage());
+    }
+}